@@ -7,50 +7,52 @@ import com.limit.datepicker.datepicker.simonvt.NumberPicker;
 import com.limit.datepicker.datepicker.utils.CalendarDateUtils;
 
 import java.util.Calendar;
+import java.util.Locale;
 
 /**
  * Common data source of DatePicker
  */
 
 public class CommonDatePickerDataSource extends DatePicker.AbstractDatePickerDataSource {
-    private String mDayFormatString;
-    private String mMonthFormatString;
+    private final LabelTable mDayLabels;
+    private final LabelTable mMonthLabels;
     public CommonDatePickerDataSource(Context context, String minDate, String maxDate) {
         super(context, minDate, maxDate);
-        mDayFormatString = context.getString(R.string.day_format_string);
-        mMonthFormatString = context.getString(R.string.month_format_string);
+        Locale locale = Locale.getDefault();
+        mDayLabels = LabelTable.get(locale, context.getString(R.string.day_format_string), 31);
+        mMonthLabels = LabelTable.get(locale, context.getString(R.string.month_format_string), 12);
         mDayFormatter = new NumberPicker.Formatter() {
             @Override
             public String format(int value) {
-                return String.format(mDayFormatString, value);
+                return mDayLabels.getLabel(value);
             }
         };
 
         mMonthFormatter = new NumberPicker.Formatter() {
             @Override
             public String format(int value) {
-                return String.format(mMonthFormatString, value + 1);
+                return mMonthLabels.getLabel(value + 1);
             }
         };
     }
 
     public String[] monthStringsForYear(int year) {
-        int monthOfYear = monthNumForYear(year) + 1;
-        String[] strings = new String[monthOfYear];
-        for (int i = 0; i < monthOfYear; i++) {
-            strings[i] = String.format(mMonthFormatString, i + 1);
-        }
-        return strings;
+        return mMonthLabels.getLabels(monthNumForYear(year) + 1);
     }
 
     @Override
     public String[] dayStringsForYearAndMonth(int year, int month) {
-        int days = dayNumForYearAndMonth(year, month);
-        String[] strings = new String[days];
-        for (int i = 0; i < days; i++) {
-            strings[i] = String.format(mDayFormatString, i + 1);
-        }
-        return strings;
+        return mDayLabels.getLabels(dayNumForYearAndMonth(year, month));
+    }
+
+    @Override
+    public String[] monthWidthLabels() {
+        return mMonthLabels.getLabels(12);
+    }
+
+    @Override
+    public String[] dayWidthLabels() {
+        return mDayLabels.getLabels(31);
     }
 
     @Override
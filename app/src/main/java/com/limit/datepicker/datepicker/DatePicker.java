@@ -226,10 +226,12 @@ public class DatePicker extends FrameLayout {
 
         int monthNum();
         String[] monthStrings();
+        String[] monthWidthLabels();
         NumberPicker.Formatter getMonthFormatter();
 
         int dayNum();
         String[] dayStrings();
+        String[] dayWidthLabels();
         NumberPicker.Formatter getDayFormatter();
 
         Calendar getMinDate();
@@ -382,6 +384,28 @@ public class DatePicker extends FrameLayout {
             return strings;
         }
 
+        /**
+         * Get every label the month spinner may show, used to measure its width once
+         * @return
+         */
+        @Override
+        public String[] monthWidthLabels() {
+            return monthStringsForYear(mCurrentDate.get(Calendar.YEAR));
+        }
+
+        /**
+         * Get every label the day spinner may show, used to measure its width once
+         * @return
+         */
+        @Override
+        public String[] dayWidthLabels() {
+            String[] strings = new String[31];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = mDayFormatter.format(i + 1);
+            }
+            return strings;
+        }
+
         @Override
         public NumberPicker.Formatter getDayFormatter() {
             return mDayFormatter;
@@ -441,6 +465,7 @@ public class DatePicker extends FrameLayout {
                 return;
             }
             mMaxDate.setTimeInMillis(maxDate);
+            onDateRangeChanged();
             if (mCurrentDate.after(mMaxDate)) {
                 updateCurrentTime(mMaxDate.getTimeInMillis());
                 onDateChanged();
@@ -454,6 +479,7 @@ public class DatePicker extends FrameLayout {
                 return;
             }
             mMinDate.setTimeInMillis(minDate);
+            onDateRangeChanged();
             if (mCurrentDate.before(mMinDate)) {
                 updateCurrentTime(mMinDate.getTimeInMillis());
                 onDateChanged();
@@ -542,6 +568,12 @@ public class DatePicker extends FrameLayout {
         protected void updateCurrentTime(long timeInMills) {
             mCurrentDate.setTimeInMillis(timeInMills);
         }
+
+        /**
+         * Called after mMinDate or mMaxDate has changed, before the current date is clamped to the new range
+         */
+        protected void onDateRangeChanged() {
+        }
     }
 
     /**
@@ -667,6 +699,9 @@ public class DatePicker extends FrameLayout {
                 mDataSource.setOnDataSourceChangeListener(this);
                 mDaySpinner.setFormatter(mDataSource.getDayFormatter());
                 mMonthSpinner.setFormatter(mDataSource.getMonthFormatter());
+                // measured once per data source instead of on every range change
+                mDaySpinner.setWidthLabels(mDataSource.dayWidthLabels());
+                mMonthSpinner.setWidthLabels(mDataSource.monthWidthLabels());
                 updateSpinners();
             }
         }
@@ -691,75 +726,75 @@ public class DatePicker extends FrameLayout {
         }
 
         private void updateSpinners() {
+            // a no-op unless the labels changed, e.g. the leap month of a lunar year
+            mMonthSpinner.setFormatter(mDataSource.getMonthFormatter());
             if(mDataSource instanceof CommonDatePickerDataSource){
                 updateSolarSpinners();
             }else{
                 updateLunarSpinners();
             }
-            // year spinner range does not change based on the current date
-            mYearSpinner.setMinValue(mDataSource.getMinDate().get(Calendar.YEAR));
-            mYearSpinner.setMaxValue(mDataSource.getMaxDate().get(Calendar.YEAR));
-
-            mDaySpinner.setWrapSelectorWheel(false);
-            mMonthSpinner.setWrapSelectorWheel(false);
-            mYearSpinner.setWrapSelectorWheel(false);
-            // set the spinner values
-            mYearSpinner.setValue(mDataSource.getYear());
-            mMonthSpinner.setValue(mDataSource.getMonth());
-            mDaySpinner.setValue(mDataSource.getDayOfMonth());
+            // year spinner range does not change based on the current date,
+            // setState leaves a spinner alone when its range and value are unchanged
+            mYearSpinner.setState(mDataSource.getMinDate().get(Calendar.YEAR),
+                    mDataSource.getMaxDate().get(Calendar.YEAR), mDataSource.getYear(), false);
         }
 
 
         private void updateSolarSpinners(){
             // set the spinner ranges respecting the min and max dates
+            int minMonth;
+            int maxMonth;
             if(mDataSource.isMinYear()){
-                mMonthSpinner.setMinValue(mDataSource.getMinMonth());//最小月份
-                mMonthSpinner.setMaxValue(mDataSource.monthNum()-1);
-                mMonthSpinner.setWrapSelectorWheel(false);
+                minMonth = mDataSource.getMinMonth();//最小月份
+                maxMonth = mDataSource.monthNum()-1;
             }else{
-                mMonthSpinner.setMinValue(0);
-                mMonthSpinner.setMaxValue(mDataSource.getMaxMonth());//最大月份
-                mMonthSpinner.setWrapSelectorWheel(false);
+                minMonth = 0;
+                maxMonth = mDataSource.getMaxMonth();//最大月份
             }
+            mMonthSpinner.setState(minMonth, maxMonth, mDataSource.getMonth(), false);
+
+            int minDay;
+            int maxDay;
             if (mDataSource.isMinMonth()) {//最小的月
-                mDaySpinner.setMinValue(mDataSource.getMinDate().get(Calendar.DAY_OF_MONTH));
-                mDaySpinner.setMaxValue(mDataSource.dayNum());
-                mDaySpinner.setWrapSelectorWheel(false);
+                minDay = mDataSource.getMinDate().get(Calendar.DAY_OF_MONTH);
+                maxDay = mDataSource.dayNum();
             } else if (mDataSource.isMaxMonth()) {//最大月
-                mDaySpinner.setMinValue(1);
-                mDaySpinner.setMaxValue(mDataSource.getMaxDate().get(Calendar.DAY_OF_MONTH));
-                mDaySpinner.setWrapSelectorWheel(false);
+                minDay = 1;
+                maxDay = mDataSource.getMaxDate().get(Calendar.DAY_OF_MONTH);
             } else {
-                mDaySpinner.setMinValue(1);
-                mDaySpinner.setMaxValue(mDataSource.dayNum());
-                mDaySpinner.setWrapSelectorWheel(false);
+                minDay = 1;
+                maxDay = mDataSource.dayNum();
             }
+            mDaySpinner.setState(minDay, maxDay, mDataSource.getDayOfMonth(), false);
         }
 
         private void updateLunarSpinners(){
+            int minMonth;
+            int maxMonth;
             if(mDataSource.isMinYear()){
-                mMonthSpinner.setMinValue(mDataSource.getMinMonth());//最小月份
-                mMonthSpinner.setMaxValue(mDataSource.monthNum());
-                mMonthSpinner.setWrapSelectorWheel(false);
+                minMonth = mDataSource.getMinMonth();//最小月份
+                maxMonth = mDataSource.monthNum();
             }else{
-                mMonthSpinner.setMinValue(1);
-                mMonthSpinner.setMaxValue(mDataSource.getMaxMonth());//最大月份
-                mMonthSpinner.setWrapSelectorWheel(false);
+                minMonth = 1;
+                maxMonth = mDataSource.getMaxMonth();//最大月份
             }
+            mMonthSpinner.setState(minMonth, maxMonth, mDataSource.getMonth(), false);
+
+            int minDay;
+            int maxDay;
             if (mDataSource.isMinMonth()) {//最小的月
-                mDaySpinner.setMinValue(mDataSource.getMinLunarDate());
-                mDaySpinner.setMaxValue(mDataSource.dayNum());
-                mDaySpinner.setWrapSelectorWheel(false);
+                minDay = mDataSource.getMinLunarDate();
+                maxDay = mDataSource.dayNum();
             } else if (mDataSource.isMaxMonth()) {//最大月
-                mDaySpinner.setMinValue(1);
-                mDaySpinner.setMaxValue(mDataSource.getMaxLunarDate());
-                mDaySpinner.setWrapSelectorWheel(false);
+                minDay = 1;
+                maxDay = mDataSource.getMaxLunarDate();
             } else {
-                mDaySpinner.setMinValue(1);
-                mDaySpinner.setMaxValue(mDataSource.dayNum());
-                mDaySpinner.setWrapSelectorWheel(false);
+                minDay = 1;
+                maxDay = mDataSource.dayNum();
             }
+            mDaySpinner.setState(minDay, maxDay, mDataSource.getDayOfMonth(), false);
         }
+
         @Override
         public void setOnDateChangedListener(OnDateChangedListener onDateChangedListener) {
             this.mOnDateChangedListener = onDateChangedListener;
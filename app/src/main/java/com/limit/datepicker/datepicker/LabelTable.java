@@ -0,0 +1,88 @@
+package com.limit.datepicker.datepicker;
+
+import java.util.HashMap;
+import java.util.Locale;
+
+/**
+ * Labels 1..count formatted once with a format string and shared by every picker
+ * using the same locale and format, so looking up a label is an array read.
+ */
+public final class LabelTable {
+    private static final HashMap<String, LabelTable> sTables = new HashMap<String, LabelTable>();
+
+    private final Locale mLocale;
+    private final String mFormat;
+    // mLabels[i] is the label of value i + 1
+    private final String[] mLabels;
+    // mPrefixes[n] holds the first n labels, built on demand
+    private final String[][] mPrefixes;
+
+    private LabelTable(Locale locale, String format, int count) {
+        mLocale = locale;
+        mFormat = format;
+        mLabels = new String[count];
+        for (int i = 0; i < count; i++) {
+            mLabels[i] = String.format(locale, format, i + 1);
+        }
+        mPrefixes = new String[count + 1][];
+        mPrefixes[count] = mLabels;
+    }
+
+    /**
+     * Get the shared table of labels 1..count
+     * @param locale The locale to format with
+     * @param format The format string, taking the value as its only argument
+     * @param count The number of labels
+     * @return
+     */
+    public static LabelTable get(Locale locale, String format, int count) {
+        String key = locale + "\u0000" + format + "\u0000" + count;
+        synchronized (sTables) {
+            LabelTable table = sTables.get(key);
+            if (table == null) {
+                table = new LabelTable(locale, format, count);
+                sTables.put(key, table);
+            }
+            return table;
+        }
+    }
+
+    /**
+     * Get the label of a value
+     * @param value The value, starting from 1
+     * @return
+     */
+    public String getLabel(int value) {
+        if (value >= 1 && value <= mLabels.length) {
+            return mLabels[value - 1];
+        }
+        return String.format(mLocale, mFormat, value);
+    }
+
+    /**
+     * Get the labels of 1..count. The returned array is shared and must not be modified
+     * @param count The number of labels
+     * @return
+     */
+    public String[] getLabels(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        if (count > mLabels.length) {
+            String[] labels = new String[count];
+            for (int i = 0; i < count; i++) {
+                labels[i] = getLabel(i + 1);
+            }
+            return labels;
+        }
+        synchronized (mPrefixes) {
+            String[] labels = mPrefixes[count];
+            if (labels == null) {
+                labels = new String[count];
+                System.arraycopy(mLabels, 0, labels, 0, count);
+                mPrefixes[count] = labels;
+            }
+            return labels;
+        }
+    }
+}
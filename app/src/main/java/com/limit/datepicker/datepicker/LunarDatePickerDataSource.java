@@ -4,19 +4,36 @@ import android.content.Context;
 
 import com.limit.datepicker.datepicker.simonvt.NumberPicker;
 import com.limit.datepicker.datepicker.utils.Lunar;
+import com.limit.datepicker.datepicker.utils.LunarDate;
 
 
 /**
  * A Chinese lunar calendar data source
  */
 public class LunarDatePickerDataSource extends DatePicker.AbstractDatePickerDataSource {
-    private Lunar mCurrentLunar;
+    // Month formatters indexed by the leap month of the year, 0 for no leap month
+    private static final MonthFormatter[] sMonthFormatters = new MonthFormatter[13];
+    // Every month label, leap months included
+    private static final String[] sMonthWidthLabels = new String[24];
+
+    static {
+        for (int month = 1; month <= 12; month++) {
+            sMonthWidthLabels[month - 1] = Lunar.getLunarMonthString(month, false);
+            sMonthWidthLabels[month + 11] = Lunar.getLunarMonthString(month, true);
+        }
+    }
+
+    // Packed lunar dates of the current, min and max dates, see LunarDate
+    private int mCurrentLunar;
+    private int mMinLunar;
+    private int mMaxLunar;
 
 
     public LunarDatePickerDataSource(Context context, String minDate, String maxDate) {
         super(context, minDate, maxDate);
         mContext = context;
-        mCurrentLunar = new Lunar(mCurrentDate.getTimeInMillis());
+        mCurrentLunar = Lunar.toLunarDate(mCurrentDate.getTimeInMillis());
+        onDateRangeChanged();
 
         mDayFormatter = new NumberPicker.Formatter() {
             @Override
@@ -24,23 +41,48 @@ public class LunarDatePickerDataSource extends DatePicker.AbstractDatePickerData
                 return Lunar.getLunarDayString(value);
             }
         };
+    }
 
-        mMonthFormatter = new NumberPicker.Formatter() {
-            @Override
-            public String format(int value) { //1.2.3.4.
-                int leapMonth = Lunar.getLunarLeapMonth(mCurrentLunar.getLunarYear());
-                String string = "";
-                if (mCurrentLunar.isLeapYear() && value == leapMonth + 1) {
-                    string = "闰";
-                }
-                return string + Lunar.getLunarMonthString(mCurrentLunar.isLeapYear() && value >= leapMonth+1 ? value - 1 : value);
+    /**
+     * The month labels depend on the leap month of the current year, so a
+     * different formatter is returned for each leap month. This lets the
+     * month spinner tell by formatter identity when its labels are stale.
+     */
+    @Override
+    public NumberPicker.Formatter getMonthFormatter() {
+        int lunarYear = LunarDate.getYear(mCurrentLunar);
+        int leapMonth = Lunar.getLunarLeapMonth(lunarYear);
+        synchronized (sMonthFormatters) {
+            if (sMonthFormatters[leapMonth] == null) {
+                sMonthFormatters[leapMonth] = new MonthFormatter(Lunar.getLunarMonthStrings(lunarYear));
             }
-        };
+            return sMonthFormatters[leapMonth];
+        }
+    }
+
+    @Override
+    public String[] monthStringsForYear(int year) {
+        return Lunar.getLunarMonthStrings(year);
+    }
+
+    @Override
+    public String[] dayStringsForYearAndMonth(int year, int month) {
+        return Lunar.getLunarDayStrings(dayNumForYearAndMonth(year, month));
+    }
+
+    @Override
+    public String[] monthWidthLabels() {
+        return sMonthWidthLabels;
+    }
+
+    @Override
+    public String[] dayWidthLabels() {
+        return Lunar.getLunarDayStrings(30);
     }
 
     @Override
     public int monthNum() {
-        return monthNumForYear(mCurrentLunar.getLunarYear());
+        return monthNumForYear(LunarDate.getYear(mCurrentLunar));
     }
 
     @Override
@@ -50,7 +92,7 @@ public class LunarDatePickerDataSource extends DatePicker.AbstractDatePickerData
 
     @Override
     public int dayNum() {
-        return dayNumForYearAndMonth(mCurrentLunar.getLunarYear(), getLunarMonthIndexWithLeap(mCurrentLunar));
+        return LunarDate.getMonthDays(mCurrentLunar);
     }
 
     @Override
@@ -61,37 +103,44 @@ public class LunarDatePickerDataSource extends DatePicker.AbstractDatePickerData
     @Override
     protected void updateCurrentTime(long timeInMills) {
         super.updateCurrentTime(timeInMills);
-        mCurrentLunar = new Lunar(timeInMills);
+        mCurrentLunar = Lunar.toLunarDate(timeInMills);
+    }
+
+    @Override
+    protected void onDateRangeChanged() {
+        mMinLunar = Lunar.toLunarDate(mMinDate.getTimeInMillis());
+        mMaxLunar = Lunar.toLunarDate(mMaxDate.getTimeInMillis());
     }
 
     @Override
     public int getYear() {
-        return mCurrentLunar.getLunarYear();
+        return LunarDate.getYear(mCurrentLunar);
     }
 
     @Override
     public int getMonth() {
-        return getLunarMonthIndexWithLeap(mCurrentLunar);
+        return LunarDate.getMonthIndexWithLeap(mCurrentLunar);
     }
 
     @Override
     public int getDayOfMonth() {
-        return mCurrentLunar.getLunarDay();
+        return LunarDate.getDay(mCurrentLunar);
     }
 
     @Override
     public void updateDay(int newDay) {
-        long timeInMills = Lunar.getTimeInMillsWithLunar(mCurrentLunar.getLunarYear(), mCurrentLunar.getLunarMonth(),
-                mCurrentLunar.isLeap(), newDay);
+        long timeInMills = Lunar.getTimeInMillsWithLunar(LunarDate.getYear(mCurrentLunar), LunarDate.getMonth(mCurrentLunar),
+                LunarDate.isLeapMonth(mCurrentLunar), newDay);
         updateDate(timeInMills);
     }
 
     @Override
     public void updateMonth(int newMonth) {
-        int leapMonth = Lunar.getLunarLeapMonth(mCurrentLunar.getLunarYear());
+        int lunarYear = LunarDate.getYear(mCurrentLunar);
+        int leapMonth = Lunar.getLunarLeapMonth(lunarYear);
         int lunarMonth = leapMonth > 0 && newMonth >= leapMonth+1 ? newMonth - 1 : newMonth;
-        int lunarDay = ifSpinnerDayOverMaxDayOfMonth(mCurrentLunar.getLunarYear(),newMonth,mCurrentLunar.getLunarDay());
-        long timeInMills = Lunar.getTimeInMillsWithLunar(mCurrentLunar.getLunarYear(),lunarMonth ,
+        int lunarDay = ifSpinnerDayOverMaxDayOfMonth(lunarYear,newMonth,LunarDate.getDay(mCurrentLunar));
+        long timeInMills = Lunar.getTimeInMillsWithLunar(lunarYear,lunarMonth ,
                 newMonth == leapMonth + 1, lunarDay);
         updateDate(timeInMills);
     }
@@ -104,11 +153,28 @@ public class LunarDatePickerDataSource extends DatePicker.AbstractDatePickerData
 
     @Override
     public void updateYear(int newYear) {
-        long timeInMills = Lunar.getTimeInMillsWithLunar(newYear, mCurrentLunar.getLunarMonth(),
-                Lunar.getLunarLeapMonth(newYear) == mCurrentLunar.getLunarMonth(), mCurrentLunar.getLunarDay());
+        int lunarMonth = LunarDate.getMonth(mCurrentLunar);
+        long timeInMills = Lunar.getTimeInMillsWithLunar(newYear, lunarMonth,
+                Lunar.getLunarLeapMonth(newYear) == lunarMonth, LunarDate.getDay(mCurrentLunar));
         updateDate(timeInMills);
     }
 
+    /**
+     * Formats the month index with leap month into one fixed set of month labels
+     */
+    private static class MonthFormatter implements NumberPicker.Formatter {
+        private final String[] mMonths;
+
+        MonthFormatter(String[] months) {
+            mMonths = months;
+        }
+
+        @Override
+        public String format(int value) { //1.2.3.4.
+            return value >= 1 && value <= mMonths.length ? mMonths[value - 1] : "";
+        }
+    }
+
     // ------------------- Lunar Helpers ---------------------
 
     /**
@@ -120,21 +186,6 @@ public class LunarDatePickerDataSource extends DatePicker.AbstractDatePickerData
         return Lunar.getLunarLeapMonth(lunarYear) > 0 ? 13 : 12;
     }
 
-    /**
-     * Start from 1 - 13
-     * @param lunar
-     * @return
-     */
-    private static int getLunarMonthIndexWithLeap(Lunar lunar) {
-        if (lunar.isLeapYear()) {
-            int leapMonth = Lunar.getLunarLeapMonth(lunar.getLunarYear());
-            if (lunar.isLeap() || lunar.getLunarMonth() > leapMonth) {
-                return lunar.getLunarMonth() + 1;
-            }
-        }
-        return lunar.getLunarMonth();
-    }
-
     /**
      * Get the days count of lunarYear, lunarMonthWithLeap
      * @param lunarYear
@@ -153,14 +204,12 @@ public class LunarDatePickerDataSource extends DatePicker.AbstractDatePickerData
 
     @Override
     public int getMinMonth() {
-        Lunar lunar = new Lunar(mMinDate.getTime());
-        return getLunarMonthIndexWithLeap(lunar);
+        return LunarDate.getMonthIndexWithLeap(mMinLunar);
     }
 
     @Override
     public int getMaxMonth() {
-        Lunar lunar = new Lunar(mMaxDate.getTime());
-        return getLunarMonthIndexWithLeap(lunar);
+        return LunarDate.getMonthIndexWithLeap(mMaxLunar);
     }
 
     /**
@@ -170,41 +219,31 @@ public class LunarDatePickerDataSource extends DatePicker.AbstractDatePickerData
 
     @Override
     public int getMinLunarDate() {
-        Lunar lunar = new Lunar(mMinDate.getTime());
-        return lunar.getLunarDay();
+        return LunarDate.getDay(mMinLunar);
     }
 
     @Override
     public int getMaxLunarDate() {
-        Lunar lunar = new Lunar(mMaxDate.getTime());
-        return lunar.getLunarDay();
+        return LunarDate.getDay(mMaxLunar);
     }
 
     @Override
     public boolean isMinMonth() {
-        Lunar minLunar = new Lunar(mMinDate.getTime());
-        Lunar curLunar = new Lunar(mCurrentDate.getTime());
-        return isMinYear() && minLunar.getLunarMonth() == curLunar.getLunarMonth();
+        return LunarDate.getYearMonth(mMinLunar) == LunarDate.getYearMonth(mCurrentLunar);
     }
 
     @Override
     public boolean isMaxMonth() {
-        Lunar maxLunar = new Lunar(mMaxDate.getTime());
-        Lunar curLunar = new Lunar(mCurrentDate.getTime());
-        return isMaxYear() && maxLunar.getLunarMonth() == curLunar.getLunarMonth();
+        return LunarDate.getYearMonth(mMaxLunar) == LunarDate.getYearMonth(mCurrentLunar);
     }
 
     @Override
     public boolean isMinYear() {
-        Lunar minLunar = new Lunar(mMinDate.getTime());
-        Lunar curLunar = new Lunar(mCurrentDate.getTime());
-        return minLunar.getLunarYear() == curLunar.getLunarYear();
+        return LunarDate.getYear(mMinLunar) == LunarDate.getYear(mCurrentLunar);
     }
 
     @Override
     public boolean isMaxYear() {
-        Lunar maxLunar = new Lunar(mMaxDate.getTime());
-        Lunar curLunar = new Lunar(mCurrentDate.getTime());
-        return maxLunar.getLunarYear() == curLunar.getLunarYear();
+        return LunarDate.getYear(mMaxLunar) == LunarDate.getYear(mCurrentLunar);
     }
 }
\ No newline at end of file
@@ -17,7 +17,9 @@
 package com.limit.datepicker.datepicker.simonvt;
 
 import android.content.Context;
+import android.content.res.Configuration;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
@@ -32,6 +34,7 @@ import android.text.TextUtils;
 import android.text.method.NumberKeyListener;
 import android.util.AttributeSet;
 import android.util.DisplayMetrics;
+import android.util.LruCache;
 import android.util.SparseArray;
 import android.util.TypedValue;
 import android.view.KeyEvent;
@@ -60,8 +63,10 @@ import com.limit.datepicker.R;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.WeakHashMap;
 
 /**
  * A widget that enables the user to select a number form a predefined range.
@@ -96,19 +101,25 @@ public class NumberPicker extends LinearLayout {
     static float DENSITY;
 
     /**
-     * The number of items show in the selector wheel.
+     * The default number of items show in the selector wheel.
      */
-    private static final int SELECTOR_WHEEL_ITEM_COUNT = 3;
+    private static final int DEFAULT_SELECTOR_WHEEL_ITEM_COUNT = 3;
 
     /**
-     * The default update interval during long press.
+     * The number of labels kept formatted beyond each end of the selector wheel.
      */
-    private static final long DEFAULT_LONG_PRESS_UPDATE_INTERVAL = 300;
+    private static final int SELECTOR_LABEL_PREFETCH_MARGIN = 2;
 
     /**
-     * The index of the middle selector item.
+     * The largest range whose labels are all kept once formatted, enough for
+     * month and day wheels.
      */
-    private static final int SELECTOR_MIDDLE_ITEM_INDEX = SELECTOR_WHEEL_ITEM_COUNT / 2;
+    private static final int MAX_FULLY_CACHED_RANGE = 31;
+
+    /**
+     * The default update interval during long press.
+     */
+    private static final long DEFAULT_LONG_PRESS_UPDATE_INTERVAL = 300;
 
     /**
      * The coefficient by which to adjust (divide) the max fling velocity.
@@ -155,6 +166,25 @@ public class NumberPicker extends LinearLayout {
      */
     private static final int SIZE_UNSPECIFIED = -1;
 
+    /**
+     * The number of pre-rendered selector items kept for each paint.
+     */
+    private static final int SELECTOR_ITEM_CACHE_SIZE = 48;
+
+    /**
+     * The widest width of label sets, keyed by the label array and then by
+     * the paint configuration. Shared by all pickers of the process, so label
+     * arrays must not be modified once measured.
+     */
+    private static final WeakHashMap<String[], HashMap<String, Float>> sMaxLabelWidthCache =
+            new WeakHashMap<String[], HashMap<String, Float>>();
+
+    /**
+     * The digits 0-9 of {@link #sDigitLocale}.
+     */
+    private static String[] sDigitLabels;
+    private static Locale sDigitLocale;
+
     /**
      * Use a custom NumberPicker formatting callback to use two-digit minutes
      * strings like "01". Keeping a static formatter etc. is the most efficient
@@ -274,6 +304,11 @@ public class NumberPicker extends LinearLayout {
      */
     private String[] mDisplayedValues;
 
+    /**
+     * The labels the width of the picker is computed from, if set.
+     */
+    private String[] mWidthLabels;
+
     /**
      * Lower value of the range of numbers allowed for the NumberPicker
      */
@@ -310,20 +345,72 @@ public class NumberPicker extends LinearLayout {
     private long mLongPressUpdateInterval = DEFAULT_LONG_PRESS_UPDATE_INTERVAL;
 
     /**
-     * Cache for the string representation of selector indices.
+     * Cache for the string representation of selector indices, cleared when
+     * the formatter, the range or the displayed values change. For ranges of
+     * up to {@link #MAX_FULLY_CACHED_RANGE} values every label is kept across
+     * value changes. For larger ranges only the visible indices and
+     * {@link #SELECTOR_LABEL_PREFETCH_MARGIN} indices on each side are kept,
+     * so a label that scrolled away is formatted again when it comes back.
      */
     private final SparseArray<String> mSelectorIndexToStringCache = new SparseArray<String>();
 
+    /**
+     * The number of drawn selector labels found in the cache.
+     */
+    private int mLabelCacheHitCount;
+
+    /**
+     * The number of drawn selector labels that had to be formatted.
+     */
+    private int mLabelCacheMissCount;
+
+    /**
+     * The number of selector labels formatted ahead of being drawn.
+     */
+    private int mLabelPrefetchCount;
+
     /**
      * The selector indices whose value are show by the selector.
      */
-    private final int[] mSelectorIndices = new int[SELECTOR_WHEEL_ITEM_COUNT];
+    private int[] mSelectorIndices;
+
+    /**
+     * The index of the middle selector item.
+     */
+    private int mSelectorMiddleItemIndex;
 
     /**
      * The {@link Paint} for drawing the selector.
      */
     private final Paint mSelectorWheelPaint;
 
+    /**
+     * The {@link Paint} for drawing the selected (middle) item of the selector.
+     */
+    private final Paint mSelectedWheelPaint;
+
+    /**
+     * The configuration of {@link #mSelectorWheelPaint} affecting text widths.
+     */
+    private String mSelectorWheelPaintKey;
+
+    /**
+     * The top of the text relative to the baseline for each of the selector paints.
+     */
+    private int mSelectorWheelTextTop;
+    private int mSelectedWheelTextTop;
+
+    /**
+     * Whether the selector items are drawn from pre-rendered bitmaps.
+     */
+    private boolean mCacheSelectorItems;
+
+    /**
+     * Pre-rendered selector items keyed by label, one cache per paint.
+     */
+    private LruCache<String, Bitmap> mSelectorItemCache;
+    private LruCache<String, Bitmap> mSelectedItemCache;
+
     /**
      * The {@link Drawable} for pressed virtual (increment/decrement) buttons.
      */
@@ -633,6 +720,17 @@ public class NumberPicker extends LinearLayout {
 
         mInputTextEditable = attributesArray.getBoolean(R.styleable.NumberPicker_inputTextEditable, DEFAULT_INPUT_TEXT_EDITABLE);
 
+        final boolean cacheSelectorItems = attributesArray.getBoolean(
+                R.styleable.NumberPicker_cacheSelectorItems, false);
+
+        final int selectorWheelItemCount = attributesArray.getInt(
+                R.styleable.NumberPicker_selectorWheelItemCount, DEFAULT_SELECTOR_WHEEL_ITEM_COUNT);
+        if (selectorWheelItemCount < 1 || selectorWheelItemCount % 2 == 0) {
+            throw new IllegalArgumentException("selectorWheelItemCount must be a positive odd number");
+        }
+        mSelectorIndices = new int[selectorWheelItemCount];
+        mSelectorMiddleItemIndex = selectorWheelItemCount / 2;
+
         attributesArray.recycle();
 
         mPressedStateHelper = new PressedStateHelper();
@@ -721,16 +819,18 @@ public class NumberPicker extends LinearLayout {
                 / SELECTOR_MAX_FLING_VELOCITY_ADJUSTMENT;
         mTextSize = (int) mInputText.getTextSize();
 
-        // create the selector wheel paint
+        // create the selector wheel paints
         Paint paint = new Paint();
         paint.setAntiAlias(true);
         paint.setTextAlign(Align.CENTER);
-        paint.setTextSize(dpToPix(15));
         paint.setTypeface(mInputText.getTypeface());
 //        ColorStateList colors = mInputText.getTextColors();
 //        int color = colors.getColorForState(ENABLED_STATE_SET, Color.WHITE);
-        paint.setColor(getResources().getColor(R.color.grey_a09696));
         mSelectorWheelPaint = paint;
+        mSelectedWheelPaint = new Paint(paint);
+        mSelectedWheelPaint.setFakeBoldText(true);
+        resolveSelectorWheelPaints();
+        setSelectorItemCacheEnabled(cacheSelectorItems);
 
 
         // create the fling and adjust scrollers
@@ -776,6 +876,87 @@ public class NumberPicker extends LinearLayout {
         }
     }
 
+    @Override
+    protected void onConfigurationChanged(Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        resolveSelectorWheelPaints();
+        tryComputeMaxWidth();
+    }
+
+    /**
+     * Resolves the text sizes and colors of the selector paints up front so
+     * that drawing the selector does not access resources.
+     */
+    private void resolveSelectorWheelPaints() {
+        mSelectorWheelPaint.setTextSize(dpToPix(15));
+        mSelectorWheelPaint.setColor(getResources().getColor(R.color.grey_a09696));
+        mSelectedWheelPaint.setTextSize(dpToPix(17));
+        mSelectedWheelPaint.setColor(getResources().getColor(R.color.red_ff2d47));
+        mSelectorWheelPaintKey = mSelectorWheelPaint.getTextSize() + "/" + mSelectorWheelPaint.getTextScaleX()
+                + "/" + mSelectorWheelPaint.getTextSkewX() + "/" + mSelectorWheelPaint.getFlags()
+                + "/" + System.identityHashCode(mSelectorWheelPaint.getTypeface());
+        mSelectorWheelTextTop = mSelectorWheelPaint.getFontMetricsInt().top;
+        mSelectedWheelTextTop = mSelectedWheelPaint.getFontMetricsInt().top;
+        if (mCacheSelectorItems) {
+            mSelectorItemCache.evictAll();
+            mSelectedItemCache.evictAll();
+        }
+    }
+
+    /**
+     * Sets whether the selector items are drawn from pre-rendered bitmaps
+     * instead of laying out their text on every frame. A steady state fling
+     * then only draws bitmaps, at the cost of memory for the cached items.
+     *
+     * @param enabled Whether to cache the rendered items.
+     */
+    public void setSelectorItemCacheEnabled(boolean enabled) {
+        if (mCacheSelectorItems == enabled) {
+            return;
+        }
+        mCacheSelectorItems = enabled;
+        if (enabled) {
+            mSelectorItemCache = new LruCache<String, Bitmap>(SELECTOR_ITEM_CACHE_SIZE);
+            mSelectedItemCache = new LruCache<String, Bitmap>(SELECTOR_ITEM_CACHE_SIZE);
+        } else {
+            mSelectorItemCache = null;
+            mSelectedItemCache = null;
+        }
+        invalidate();
+    }
+
+    /**
+     * Gets whether the selector items are drawn from pre-rendered bitmaps.
+     *
+     * @return True if the rendered items are cached.
+     */
+    public boolean isSelectorItemCacheEnabled() {
+        return mCacheSelectorItems;
+    }
+
+    /**
+     * Draws a selector item centered at <code>x</code> on the baseline <code>y</code>.
+     */
+    private void drawSelectorItem(Canvas canvas, String text, float x, float y, boolean selected) {
+        Paint paint = selected ? mSelectedWheelPaint : mSelectorWheelPaint;
+        if (!mCacheSelectorItems || text.length() == 0) {
+            canvas.drawText(text, x, y, paint);
+            return;
+        }
+        LruCache<String, Bitmap> cache = selected ? mSelectedItemCache : mSelectorItemCache;
+        int textTop = selected ? mSelectedWheelTextTop : mSelectorWheelTextTop;
+        Bitmap item = cache.get(text);
+        if (item == null) {
+            // leave a pixel on each side for anti-aliasing and the fake bold stroke
+            int width = (int) Math.ceil(paint.measureText(text)) + 2;
+            int height = paint.getFontMetricsInt().bottom - textTop;
+            item = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            new Canvas(item).drawText(text, width / 2f, -textTop, paint);
+            cache.put(text, item);
+        }
+        canvas.drawBitmap(item, x - item.getWidth() / 2f, y + textTop, null);
+    }
+
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
         if (!mHasSelectorWheel) {
@@ -925,7 +1106,7 @@ public class NumberPicker extends LinearLayout {
                             showSoftInput();
                         } else {
                             int selectorIndexOffset = (eventY / mSelectorElementHeight)
-                                    - SELECTOR_MIDDLE_ITEM_INDEX;
+                                    - mSelectorMiddleItemIndex;
                             if (selectorIndexOffset > 0) {
                                 changeValueByOne(true);
                                 mPressedStateHelper.buttonTapped(
@@ -1098,12 +1279,12 @@ public class NumberPicker extends LinearLayout {
     public void scrollBy(int x, int y) {
         int[] selectorIndices = mSelectorIndices;
         if (!mWrapSelectorWheel && y > 0
-                && selectorIndices[SELECTOR_MIDDLE_ITEM_INDEX] <= mMinValue) {
+                && selectorIndices[mSelectorMiddleItemIndex] <= mMinValue) {
             mCurrentScrollOffset = mInitialScrollOffset;
             return;
         }
         if (!mWrapSelectorWheel && y < 0
-                && selectorIndices[SELECTOR_MIDDLE_ITEM_INDEX] >= mMaxValue) {
+                && selectorIndices[mSelectorMiddleItemIndex] >= mMaxValue) {
             mCurrentScrollOffset = mInitialScrollOffset;
             return;
         }
@@ -1111,16 +1292,16 @@ public class NumberPicker extends LinearLayout {
         while (mCurrentScrollOffset - mInitialScrollOffset > mSelectorTextGapHeight) {
             mCurrentScrollOffset -= mSelectorElementHeight;
             decrementSelectorIndices(selectorIndices);
-            setValueInternal(selectorIndices[SELECTOR_MIDDLE_ITEM_INDEX], true);
-            if (!mWrapSelectorWheel && selectorIndices[SELECTOR_MIDDLE_ITEM_INDEX] <= mMinValue) {
+            setValueInternal(selectorIndices[mSelectorMiddleItemIndex], true);
+            if (!mWrapSelectorWheel && selectorIndices[mSelectorMiddleItemIndex] <= mMinValue) {
                 mCurrentScrollOffset = mInitialScrollOffset;
             }
         }
         while (mCurrentScrollOffset - mInitialScrollOffset < -mSelectorTextGapHeight) {
             mCurrentScrollOffset += mSelectorElementHeight;
             incrementSelectorIndices(selectorIndices);
-            setValueInternal(selectorIndices[SELECTOR_MIDDLE_ITEM_INDEX], true);
-            if (!mWrapSelectorWheel && selectorIndices[SELECTOR_MIDDLE_ITEM_INDEX] >= mMaxValue) {
+            setValueInternal(selectorIndices[mSelectorMiddleItemIndex], true);
+            if (!mWrapSelectorWheel && selectorIndices[mSelectorMiddleItemIndex] >= mMaxValue) {
                 mCurrentScrollOffset = mInitialScrollOffset;
             }
         }
@@ -1166,6 +1347,7 @@ public class NumberPicker extends LinearLayout {
         }
         mFormatter = formatter;
         try {
+            invalidateSelectorLabels();
             initializeSelectorWheelIndices();
             updateInputTextView();
         } catch (Exception e) {
@@ -1242,14 +1424,10 @@ public class NumberPicker extends LinearLayout {
             return;
         }
         int maxTextWidth = 0;
-        if (mDisplayedValues == null) {
-            float maxDigitWidth = 0;
-            for (int i = 0; i <= 9; i++) {
-                final float digitWidth = mSelectorWheelPaint.measureText(formatNumberWithLocale(i));
-                if (digitWidth > maxDigitWidth) {
-                    maxDigitWidth = digitWidth;
-                }
-            }
+        if (mWidthLabels != null) {
+            maxTextWidth = (int) measureMaxLabelWidth(mWidthLabels);
+        } else if (mDisplayedValues == null) {
+            final float maxDigitWidth = measureMaxLabelWidth(getDigitLabels());
             int numberOfDigits = 0;
             int current = mMaxValue;
             while (current > 0) {
@@ -1258,13 +1436,7 @@ public class NumberPicker extends LinearLayout {
             }
             maxTextWidth = (int) (numberOfDigits * maxDigitWidth);
         } else {
-            final int valueCount = mDisplayedValues.length;
-            for (int i = 0; i < valueCount; i++) {
-                final float textWidth = mSelectorWheelPaint.measureText(mDisplayedValues[i]);
-                if (textWidth > maxTextWidth) {
-                    maxTextWidth = (int) textWidth;
-                }
-            }
+            maxTextWidth = (int) measureMaxLabelWidth(mDisplayedValues);
         }
         maxTextWidth += mInputText.getPaddingLeft() + mInputText.getPaddingRight();
         if (mMaxWidth != maxTextWidth) {
@@ -1277,6 +1449,67 @@ public class NumberPicker extends LinearLayout {
         }
     }
 
+    /**
+     * Returns the width of the widest of the labels drawn with the selector
+     * wheel paint, measuring them only the first time the label array is seen
+     * with this paint configuration.
+     */
+    private float measureMaxLabelWidth(String[] labels) {
+        synchronized (sMaxLabelWidthCache) {
+            HashMap<String, Float> widths = sMaxLabelWidthCache.get(labels);
+            if (widths == null) {
+                widths = new HashMap<String, Float>();
+                sMaxLabelWidthCache.put(labels, widths);
+            }
+            Float maxWidth = widths.get(mSelectorWheelPaintKey);
+            if (maxWidth == null) {
+                float width = 0;
+                for (String label : labels) {
+                    width = Math.max(width, mSelectorWheelPaint.measureText(label));
+                }
+                maxWidth = width;
+                widths.put(mSelectorWheelPaintKey, maxWidth);
+            }
+            return maxWidth;
+        }
+    }
+
+    /**
+     * Returns the digits 0-9 of the default locale, the same array as long
+     * as the locale does not change.
+     */
+    private static String[] getDigitLabels() {
+        synchronized (sMaxLabelWidthCache) {
+            Locale locale = Locale.getDefault();
+            if (!locale.equals(sDigitLocale)) {
+                String[] digits = new String[10];
+                for (int i = 0; i <= 9; i++) {
+                    digits[i] = formatNumberWithLocale(i);
+                }
+                sDigitLabels = digits;
+                sDigitLocale = locale;
+            }
+            return sDigitLabels;
+        }
+    }
+
+    /**
+     * Sets the labels the width of the picker is computed from instead of the
+     * current range, typically every label the picker may ever show. The width
+     * then stays the same when the range changes and is measured only once.
+     *
+     * @param widthLabels The labels, or null to compute the width from the range.
+     *
+     * <strong>Note:</strong> The array must not be modified once set.
+     */
+    public void setWidthLabels(String[] widthLabels) {
+        if (mWidthLabels == widthLabels) {
+            return;
+        }
+        mWidthLabels = widthLabels;
+        tryComputeMaxWidth();
+    }
+
     /**
      * Gets whether the selector wheel wraps when reaching the min/max value.
      *
@@ -1313,6 +1546,53 @@ public class NumberPicker extends LinearLayout {
         }
     }
 
+    /**
+     * Gets the number of items shown on the selector wheel.
+     *
+     * @return The item count.
+     */
+    public int getSelectorWheelItemCount() {
+        return mSelectorIndices.length;
+    }
+
+    /**
+     * Sets the number of items shown on the selector wheel. Only the labels of
+     * the shown items and a few on each side of them are formatted, so a taller
+     * wheel costs as much as the items it shows regardless of the value range.
+     * <p>
+     * <strong>Note:</strong> If the range becomes less than the number of items
+     * shown, the selector wheel stops wrapping.
+     * </p>
+     * <p>
+     * The count may be changed at runtime, e.g. from 3 to 5 items. The item
+     * height is then recomputed for the new count right away if the picker
+     * is already laid out, and a layout pass is requested so the picker and
+     * its parent pick up the new geometry.
+     * </p>
+     *
+     * @param itemCount The item count, a positive odd number.
+     */
+    public void setSelectorWheelItemCount(int itemCount) {
+        if (itemCount < 1 || itemCount % 2 == 0) {
+            throw new IllegalArgumentException("itemCount must be a positive odd number");
+        }
+        if (itemCount == mSelectorIndices.length) {
+            return;
+        }
+        mSelectorIndices = new int[itemCount];
+        mSelectorMiddleItemIndex = itemCount / 2;
+        if ((mMaxValue - mMinValue) < itemCount) {
+            setWrapSelectorWheel(false);
+        }
+        if (getHeight() > 0) {
+            initializeSelectorWheel();
+        } else {
+            initializeSelectorWheelIndices();
+        }
+        requestLayout();
+        invalidate();
+    }
+
     /**
      * Sets the speed at which the numbers be incremented and decremented when
      * the up and down buttons are long pressed respectively.
@@ -1367,6 +1647,7 @@ public class NumberPicker extends LinearLayout {
             mValue = mMinValue;
         }
         setWrapSelectorWheel(false);
+        invalidateSelectorLabels();
         initializeSelectorWheelIndices();
         updateInputTextView();
         tryComputeMaxWidth();
@@ -1404,12 +1685,59 @@ public class NumberPicker extends LinearLayout {
             mValue = mMaxValue;
         }
         setWrapSelectorWheel(false);
+        invalidateSelectorLabels();
         initializeSelectorWheelIndices();
         updateInputTextView();
         tryComputeMaxWidth();
         invalidate();
     }
 
+    /**
+     * Sets the range, the value and the wrapping of the picker at once. This
+     * is equivalent to calling {@link #setMinValue(int)}, {@link #setMaxValue(int)},
+     * {@link #setWrapSelectorWheel(boolean)} and {@link #setValue(int)} in turn,
+     * but recomputes the selector wheel and invalidates only once, and not at
+     * all if nothing changed.
+     *
+     * @param minValue The min value inclusive.
+     * @param maxValue The max value inclusive.
+     * @param value The new value, clamped to or wrapped into the range.
+     * @param wrapSelectorWheel Whether to wrap, honored only if the range is
+     *            larger than the number of items shown on the selector wheel.
+     */
+    public void setState(int minValue, int maxValue, int value, boolean wrapSelectorWheel) {
+        if (minValue < 0) {
+            throw new IllegalArgumentException("minValue must be >= 0");
+        }
+        if (maxValue < 0) {
+            throw new IllegalArgumentException("maxValue must be >= 0");
+        }
+        final boolean rangeChanged = minValue != mMinValue || maxValue != mMaxValue;
+        final boolean wrap = wrapSelectorWheel && (maxValue - minValue) >= mSelectorIndices.length;
+        mMinValue = minValue;
+        mMaxValue = maxValue;
+        if (wrap) {
+            value = getWrappedSelectorIndex(value);
+        } else {
+            value = Math.max(value, minValue);
+            value = Math.min(value, maxValue);
+        }
+        if (!rangeChanged && wrap == mWrapSelectorWheel && value == mValue) {
+            return;
+        }
+        mWrapSelectorWheel = wrap;
+        mValue = value;
+        if (rangeChanged) {
+            invalidateSelectorLabels();
+        }
+        initializeSelectorWheelIndices();
+        updateInputTextView();
+        if (rangeChanged) {
+            tryComputeMaxWidth();
+        }
+        invalidate();
+    }
+
     /**
      * Gets the values to be displayed instead of string values.
      *
@@ -1426,7 +1754,8 @@ public class NumberPicker extends LinearLayout {
      *
      * <strong>Note:</strong> The length of the displayed values array
      * must be equal to the range of selectable numbers which is equal to
-     * {@link #getMaxValue()} - {@link #getMinValue()} + 1.
+     * {@link #getMaxValue()} - {@link #getMinValue()} + 1. The array must not
+     * be modified once set.
      */
     public void setDisplayedValues(String[] displayedValues) {
         if (mDisplayedValues == displayedValues) {
@@ -1441,6 +1770,7 @@ public class NumberPicker extends LinearLayout {
             mInputText.setRawInputType(InputType.TYPE_CLASS_NUMBER);
         }
         updateInputTextView();
+        invalidateSelectorLabels();
         initializeSelectorWheelIndices();
         tryComputeMaxWidth();
     }
@@ -1491,24 +1821,14 @@ public class NumberPicker extends LinearLayout {
         int[] selectorIndices = mSelectorIndices;
         for (int i = 0; i < selectorIndices.length; i++) {
             int selectorIndex = selectorIndices[i];
-            String scrollSelectorValue = mSelectorIndexToStringCache.get(selectorIndex);
+            String scrollSelectorValue = getSelectorLabel(selectorIndex);
             // Do not draw the middle item if input is visible since the input
             // is shown only if the wheel is static and it covers the middle
             // item. Otherwise, if the user starts editing the text via the
             // IME he may see a dimmed version of the old value intermixed
             // with the new one.
-            if (i != SELECTOR_MIDDLE_ITEM_INDEX || mInputText.getVisibility() != VISIBLE) {
-                if( i == SELECTOR_MIDDLE_ITEM_INDEX){
-                    mSelectorWheelPaint.setTextSize(dpToPix(17));
-                    mSelectorWheelPaint.setFakeBoldText(true);
-                    mSelectorWheelPaint.setColor(getResources().getColor(R.color.red_ff2d47));
-                }else{
-                    mSelectorWheelPaint.setTextSize(dpToPix(15));
-                    mSelectorWheelPaint.setFakeBoldText(false);
-                    mSelectorWheelPaint.setColor(getResources().getColor(R.color.grey_a09696));
-                }
-                canvas.drawText(scrollSelectorValue, x, y, mSelectorWheelPaint);
-
+            if (i != mSelectorMiddleItemIndex || mInputText.getVisibility() != VISIBLE) {
+                drawSelectorItem(canvas, scrollSelectorValue, x, y, i == mSelectorMiddleItemIndex);
             }
             y += mSelectorElementHeight;
         }
@@ -1630,20 +1950,91 @@ public class NumberPicker extends LinearLayout {
     }
 
     /**
-     * Resets the selector indices and clear the cached string representation of
+     * Returns how many drawn selector labels were served from the label cache.
+     *
+     * @return The hit count.
+     */
+    public int getLabelCacheHitCount() {
+        return mLabelCacheHitCount;
+    }
+
+    /**
+     * Returns how many drawn selector labels had to be formatted because they
+     * were not in the label cache.
+     *
+     * @return The miss count.
+     */
+    public int getLabelCacheMissCount() {
+        return mLabelCacheMissCount;
+    }
+
+    /**
+     * Returns how many selector labels were formatted ahead of being drawn,
+     * while the selector indices were reset or stepped. These are not counted
+     * as hits or misses.
+     *
+     * @return The prefetch count.
+     */
+    public int getLabelPrefetchCount() {
+        return mLabelPrefetchCount;
+    }
+
+    /**
+     * Clears the cached string representation of the selector indices.
+     */
+    private void invalidateSelectorLabels() {
+        mSelectorIndexToStringCache.clear();
+    }
+
+    /**
+     * Resets the selector indices, reusing the cached string representation of
      * these indices.
      */
     private void initializeSelectorWheelIndices() {
-        mSelectorIndexToStringCache.clear();
         int[] selectorIndices = mSelectorIndices;
         int current = getValue();
         for (int i = 0; i < mSelectorIndices.length; i++) {
-            int selectorIndex = current + (i - SELECTOR_MIDDLE_ITEM_INDEX);
+            int selectorIndex = current + (i - mSelectorMiddleItemIndex);
             if (mWrapSelectorWheel) {
                 selectorIndex = getWrappedSelectorIndex(selectorIndex);
             }
             selectorIndices[i] = selectorIndex;
-            ensureCachedScrollSelectorValue(selectorIndices[i]);
+        }
+        materializeSelectorLabels();
+    }
+
+    /**
+     * Makes sure the labels of the shown selector indices and of
+     * {@link #SELECTOR_LABEL_PREFETCH_MARGIN} indices on each side of them are
+     * cached, and drops the labels that scrolled further away unless the
+     * range is small enough to keep them all.
+     */
+    private void materializeSelectorLabels() {
+        final int current = mSelectorIndices[mSelectorMiddleItemIndex];
+        final int reach = mSelectorMiddleItemIndex + SELECTOR_LABEL_PREFETCH_MARGIN;
+        for (int offset = -reach; offset <= reach; offset++) {
+            int selectorIndex = current + offset;
+            if (mWrapSelectorWheel) {
+                selectorIndex = getWrappedSelectorIndex(selectorIndex);
+            }
+            if (mSelectorIndexToStringCache.get(selectorIndex) == null) {
+                mLabelPrefetchCount++;
+                ensureCachedScrollSelectorValue(selectorIndex);
+            }
+        }
+        final int range = mMaxValue - mMinValue + 1;
+        if (range <= MAX_FULLY_CACHED_RANGE) {
+            return;
+        }
+        SparseArray<String> cache = mSelectorIndexToStringCache;
+        for (int i = cache.size() - 1; i >= 0; i--) {
+            int distance = Math.abs(cache.keyAt(i) - current);
+            if (mWrapSelectorWheel) {
+                distance = Math.min(distance, range - distance);
+            }
+            if (distance > reach) {
+                cache.removeAt(i);
+            }
         }
     }
 
@@ -1715,7 +2106,7 @@ public class NumberPicker extends LinearLayout {
         // mInputText
         int editTextTextPosition = mInputText.getBaseline() + mInputText.getTop();
         mInitialScrollOffset = editTextTextPosition
-                - (mSelectorElementHeight * SELECTOR_MIDDLE_ITEM_INDEX);
+                - (mSelectorElementHeight * mSelectorMiddleItemIndex);
         mCurrentScrollOffset = mInitialScrollOffset;
         updateInputTextView();
     }
@@ -1794,7 +2185,7 @@ public class NumberPicker extends LinearLayout {
             nextScrollSelectorIndex = mMinValue;
         }
         selectorIndices[selectorIndices.length - 1] = nextScrollSelectorIndex;
-        ensureCachedScrollSelectorValue(nextScrollSelectorIndex);
+        materializeSelectorLabels();
     }
 
     /**
@@ -1810,7 +2201,22 @@ public class NumberPicker extends LinearLayout {
             nextScrollSelectorIndex = mMaxValue;
         }
         selectorIndices[0] = nextScrollSelectorIndex;
-        ensureCachedScrollSelectorValue(nextScrollSelectorIndex);
+        materializeSelectorLabels();
+    }
+
+    /**
+     * Returns the label to draw for the given <code>selectorIndex</code>,
+     * counting whether it was served from the label cache.
+     */
+    private String getSelectorLabel(int selectorIndex) {
+        String scrollSelectorValue = mSelectorIndexToStringCache.get(selectorIndex);
+        if (scrollSelectorValue != null) {
+            mLabelCacheHitCount++;
+            return scrollSelectorValue;
+        }
+        mLabelCacheMissCount++;
+        ensureCachedScrollSelectorValue(selectorIndex);
+        return mSelectorIndexToStringCache.get(selectorIndex);
     }
 
     /**
@@ -0,0 +1,35 @@
+package com.limit.datepicker.datepicker;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class LabelTableTest {
+
+    @Test
+    public void get_sharesTables() throws Exception {
+        LabelTable table = LabelTable.get(Locale.CHINA, "%s日", 31);
+        assertSame(table, LabelTable.get(Locale.CHINA, "%s日", 31));
+        assertSame(table.getLabel(5), table.getLabel(5));
+        assertSame(table.getLabels(30), table.getLabels(30));
+        assertSame(table.getLabel(30), table.getLabels(30)[29]);
+    }
+
+    @Test
+    public void getLabel_matchesFormat() throws Exception {
+        LabelTable table = LabelTable.get(Locale.CHINA, "%s月", 12);
+        for (int value = 0; value <= 13; value++) {
+            assertEquals(String.format(Locale.CHINA, "%s月", value), table.getLabel(value));
+        }
+        assertEquals(13, table.getLabels(13).length);
+        assertEquals("13月", table.getLabels(13)[12]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getLabels_rejectsNegativeCount() throws Exception {
+        LabelTable.get(Locale.CHINA, "%s日", 31).getLabels(-1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.limit.datepicker.datepicker.benchmark;
+
+import com.limit.datepicker.datepicker.utils.CalendarDateUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 儒略日与时间戳互相转换, 与改写前基于 Calendar 和 DecimalFormat 的实现对照.
+ * 传入 TimeZone 的重载应当不分配内存, 以 jmh 任务的 GC 分析中 gc.alloc.rate.norm 为 0 B/op 为准
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalendarDateUtilsBenchmark {
+    private long[] millis;
+    private double[] julianDays;
+    private TimeZone timeZone;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        millis = Samples.newMillis();
+        timeZone = TimeZone.getDefault();
+        julianDays = new double[Samples.COUNT];
+        for (int i = 0; i < Samples.COUNT; i++) {
+            julianDays[i] = CalendarDateUtils.getJulianDay(millis[i]);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & Samples.MASK;
+    }
+
+    @Benchmark
+    public double getJulianDay() {
+        return CalendarDateUtils.getJulianDay(millis[next()]);
+    }
+
+    @Benchmark
+    public long getMills() {
+        return CalendarDateUtils.getMills(julianDays[next()]);
+    }
+
+    @Benchmark
+    public double getJulianDayWithTimeZone() {
+        return CalendarDateUtils.getJulianDay(millis[next()], timeZone);
+    }
+
+    @Benchmark
+    public long getMillsWithTimeZone() {
+        return CalendarDateUtils.getMills(julianDays[next()], timeZone);
+    }
+
+    @Benchmark
+    public double legacyGetJulianDay() {
+        return LegacyCalendarDateUtils.getJulianDay(millis[next()]);
+    }
+
+    @Benchmark
+    public long legacyGetMills() {
+        return LegacyCalendarDateUtils.getMills(julianDays[next()]);
+    }
+}
@@ -1,51 +1,24 @@
-package com.limit.datepicker.datepicker.utils;
+package com.limit.datepicker.datepicker.benchmark;
 
 import java.text.DecimalFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 
-public class CalendarDateUtils {
-    /**
-     * Return if the two calendar is in the same day, ignoring time
-     * @param day1
-     * @param day2
-     * @return
-     */
-    public static boolean isSameDay(Calendar day1, Calendar day2) {
-        return day1.get(Calendar.YEAR) == day2.get(Calendar.YEAR)
-                && day1.get(Calendar.MONTH) == day2.get(Calendar.MONTH)
-                && day1.get(Calendar.DAY_OF_MONTH) == day2.get(Calendar.DAY_OF_MONTH);
-    }
+/**
+ * CalendarDateUtils 改写前的儒略日转换, 原样保留作为基准对照
+ */
+final class LegacyCalendarDateUtils {
 
-    /**
-     * Return if the two calendar is in the same month
-     * @param day1
-     * @param day2
-     * @return
-     */
-    public static boolean isSameMonth(Calendar day1, Calendar day2) {
-        return day1.get(Calendar.YEAR) == day2.get(Calendar.YEAR)
-                && day1.get(Calendar.MONTH) == day2.get(Calendar.MONTH);
+    private LegacyCalendarDateUtils() {
     }
 
-    /**
-     * Return if the two calendar is in the same year
-     * @param day1
-     * @param day2
-     * @return
-     */
-    public static boolean isSameYear(Calendar day1, Calendar day2) {
-        return day1.get(Calendar.YEAR) == day2.get(Calendar.YEAR);
-    }
-
-
     /**
      * Get julian day by unix timestamp
      * @param mills
      * @return
      */
-    public static double getJulianDay(long mills) {
+    static double getJulianDay(long mills) {
         GregorianCalendar calendar = new GregorianCalendar();
         calendar.setTimeInMillis(mills);
 
@@ -82,7 +55,7 @@ public class CalendarDateUtils {
      * @param julianDay
      * @return
      */
-    public static long getMills(double julianDay) {
+    static long getMills(double julianDay) {
         double intBit, fraction, a, b, c, d, e, m, aux;
         Date date = new Date();
         julianDay += 0.5;
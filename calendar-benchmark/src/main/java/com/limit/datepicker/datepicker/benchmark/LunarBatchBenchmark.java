@@ -0,0 +1,74 @@
+package com.limit.datepicker.datepicker.benchmark;
+
+import com.limit.datepicker.datepicker.utils.LunarBatchConverter;
+import com.limit.datepicker.datepicker.utils.LunarDate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量转换农历1900-2100年的每一天, 比较单线程与不同并行度的吞吐量
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LunarBatchBenchmark {
+    private static final long FIRST_DAY = LunarDate.BASE_EPOCH_DAY;
+    private static final int DAYS = (int) (LunarDate.getYearStartEpochDay(LunarDate.MAX_YEAR + 1) - FIRST_DAY);
+
+    /**
+     * 转换结果
+     */
+    @State(Scope.Thread)
+    public static class Output {
+        final int[] dates = new int[DAYS];
+    }
+
+    /**
+     * 并行转换使用的线程池, 每个并行度一个
+     */
+    @State(Scope.Benchmark)
+    public static class Pool {
+        @Param({"1", "2", "4", "8"})
+        public int parallelism;
+
+        ForkJoinPool pool;
+
+        @Setup
+        public void setUp() {
+            pool = new ForkJoinPool(parallelism);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public int[] sequential(Output output) {
+        LunarDate.fromEpochDays(FIRST_DAY, output.dates, 0, DAYS);
+        return output.dates;
+    }
+
+    @Benchmark
+    public int[] parallel(Pool pool, Output output) {
+        LunarBatchConverter.fromEpochDays(pool.pool, FIRST_DAY, output.dates, 0, DAYS);
+        return output.dates;
+    }
+}
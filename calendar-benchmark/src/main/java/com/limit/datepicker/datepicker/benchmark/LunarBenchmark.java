@@ -0,0 +1,82 @@
+package com.limit.datepicker.datepicker.benchmark;
+
+import com.limit.datepicker.datepicker.utils.Lunar;
+import com.limit.datepicker.datepicker.utils.LunarDate;
+import com.limit.datepicker.datepicker.utils.SolarDate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 公历与农历互相转换, 以及节日查找
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LunarBenchmark {
+    // 1901-2000, one century
+    private static final long CENTURY_START = SolarDate.toEpochDay(1901, 1, 1);
+    private static final int CENTURY_DAYS = (int) (SolarDate.toEpochDay(2001, 1, 1) - CENTURY_START);
+
+    private long[] millis;
+    private int[] lunarDates;
+    private final int[] centuryDates = new int[CENTURY_DAYS];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        millis = Samples.newMillis();
+        lunarDates = new int[Samples.COUNT];
+        for (int i = 0; i < Samples.COUNT; i++) {
+            lunarDates[i] = Lunar.toLunarDate(millis[i]);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & Samples.MASK;
+    }
+
+    @Benchmark
+    public Lunar newLunar() {
+        return new Lunar(millis[next()]);
+    }
+
+    @Benchmark
+    public int toLunarDate() {
+        return Lunar.toLunarDate(millis[next()]);
+    }
+
+    @Benchmark
+    public long getTimeInMillsWithLunar() {
+        int lunarDate = lunarDates[next()];
+        return Lunar.getTimeInMillsWithLunar(LunarDate.getYear(lunarDate), LunarDate.getMonth(lunarDate),
+                LunarDate.isLeapMonth(lunarDate), LunarDate.getDay(lunarDate));
+    }
+
+    @Benchmark
+    public int[] fromEpochDaysCentury() {
+        LunarDate.fromEpochDays(CENTURY_START, centuryDates, 0, CENTURY_DAYS);
+        return centuryDates;
+    }
+
+    /**
+     * 节日在第一次查询时才查找, 所以每次都新建 Lunar
+     */
+    @Benchmark
+    public boolean isFestival() {
+        return new Lunar(millis[next()]).isFestival();
+    }
+}
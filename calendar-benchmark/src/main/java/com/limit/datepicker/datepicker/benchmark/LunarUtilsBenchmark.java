@@ -0,0 +1,60 @@
+package com.limit.datepicker.datepicker.benchmark;
+
+import com.limit.datepicker.datepicker.utils.LunarUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 日期格式化
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LunarUtilsBenchmark {
+    private Calendar[] calendars;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        long[] millis = Samples.newMillis();
+        calendars = new Calendar[Samples.COUNT];
+        for (int i = 0; i < Samples.COUNT; i++) {
+            calendars[i] = Calendar.getInstance();
+            calendars[i].setTimeInMillis(millis[i]);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & Samples.MASK;
+    }
+
+    @Benchmark
+    public String solarFormatDate() {
+        return LunarUtils.solarFormatDate(calendars[next()]);
+    }
+
+    @Benchmark
+    public String solarFormatDateWithNoYear() {
+        return LunarUtils.solarFormatDateWithNoYear(calendars[next()]);
+    }
+
+    @Benchmark
+    public String lunarFormatDate() {
+        return LunarUtils.lunarFormatDate(calendars[next()]);
+    }
+}
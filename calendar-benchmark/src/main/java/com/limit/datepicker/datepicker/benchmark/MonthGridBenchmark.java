@@ -0,0 +1,69 @@
+package com.limit.datepicker.datepicker.benchmark;
+
+import com.limit.datepicker.datepicker.utils.Lunar;
+import com.limit.datepicker.datepicker.utils.MonthGridModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 生成一页月历, 比较 MonthGridModel 与逐格构建 Lunar
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MonthGridBenchmark {
+    private final MonthGridModel model = new MonthGridModel();
+    private final Calendar calendar = Calendar.getInstance();
+    private int[] years;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        years = Samples.newYears();
+        // Lunar cannot build the cells that spill into 1900 or 2101
+        for (int i = 0; i < years.length; i++) {
+            years[i] = Math.min(Math.max(years[i], Samples.MIN_YEAR + 1), Samples.MAX_YEAR - 1);
+        }
+    }
+
+    @Benchmark
+    public void monthGridModel(Blackhole blackhole) {
+        int i = index = (index + 1) & Samples.MASK;
+        MonthGridModel.Cell[] cells = model.setMonth(years[i], i % 12 + 1);
+        for (MonthGridModel.Cell cell : cells) {
+            blackhole.consume(cell.getDisplayLunarString());
+        }
+    }
+
+    /**
+     * 原来的做法: 每格构建一个 Lunar
+     */
+    @Benchmark
+    public void lunarPerCell(Blackhole blackhole) {
+        int i = index = (index + 1) & Samples.MASK;
+        calendar.clear();
+        calendar.set(years[i], i % 12, 1);
+        int lead = (calendar.get(Calendar.DAY_OF_WEEK) - Calendar.SUNDAY + 7) % 7;
+        calendar.add(Calendar.DAY_OF_MONTH, -lead);
+        for (int cell = 0; cell < MonthGridModel.CELL_COUNT; cell++) {
+            blackhole.consume(new Lunar(calendar.getTimeInMillis()).getDisplayLunarString());
+            calendar.add(Calendar.DAY_OF_MONTH, 1);
+        }
+    }
+}
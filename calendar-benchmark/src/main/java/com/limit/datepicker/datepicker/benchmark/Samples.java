@@ -0,0 +1,56 @@
+package com.limit.datepicker.datepicker.benchmark;
+
+import com.limit.datepicker.datepicker.utils.CalendarDateUtils;
+import com.limit.datepicker.datepicker.utils.SolarDate;
+
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * Inputs shared by the benchmarks: dates spread over 1901-2100, the range the
+ * lunar and solar-term tables cover, always drawn from the same seed so runs
+ * are comparable.
+ */
+final class Samples {
+    /**
+     * The number of samples, a power of two so the next index is a mask
+     */
+    static final int COUNT = 1024;
+    static final int MASK = COUNT - 1;
+
+    static final int MIN_YEAR = 1901;
+    static final int MAX_YEAR = 2100;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private Samples() {
+    }
+
+    /**
+     * Noon of random days between 1901-01-01 and 2100-12-31 in the default time zone
+     */
+    static long[] newMillis() {
+        long first = SolarDate.toEpochDay(MIN_YEAR, 1, 1);
+        long last = SolarDate.toEpochDay(MAX_YEAR, 12, 31);
+        TimeZone timeZone = TimeZone.getDefault();
+        Random random = new Random(42);
+        long[] millis = new long[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            long epochDay = first + (long) (random.nextDouble() * (last - first + 1));
+            millis[i] = CalendarDateUtils.getUtcMills(epochDay * MILLIS_PER_DAY + MILLIS_PER_DAY / 2, timeZone);
+        }
+        return millis;
+    }
+
+    /**
+     * Random years between 1901 and 2100
+     */
+    static int[] newYears() {
+        Random random = new Random(42);
+        int[] years = new int[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            years[i] = MIN_YEAR + random.nextInt(MAX_YEAR - MIN_YEAR + 1);
+        }
+        return years;
+    }
+}
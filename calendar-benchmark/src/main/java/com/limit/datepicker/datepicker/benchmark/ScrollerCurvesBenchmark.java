@@ -0,0 +1,59 @@
+package com.limit.datepicker.datepicker.benchmark;
+
+import com.limit.datepicker.datepicker.simonvt.ScrollerCurves;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scroller 每帧的位置曲线: 查表插值与直接计算 viscousFluid 对照
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScrollerCurvesBenchmark {
+    private float[] fractions;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        fractions = new float[Samples.COUNT];
+        Random random = new Random(42);
+        for (int i = 0; i < Samples.COUNT; i++) {
+            fractions[i] = random.nextFloat();
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & Samples.MASK;
+    }
+
+    @Benchmark
+    public float splineCurve() {
+        return ScrollerCurves.splineCurve(fractions[next()]);
+    }
+
+    @Benchmark
+    public float viscousFluidCurve() {
+        return ScrollerCurves.viscousFluidCurve(fractions[next()]);
+    }
+
+    @Benchmark
+    public float viscousFluid() {
+        return ScrollerCurves.viscousFluid(fractions[next()]);
+    }
+}
@@ -0,0 +1,81 @@
+package com.limit.datepicker.datepicker.benchmark;
+
+import com.limit.datepicker.datepicker.utils.Lunar;
+import com.limit.datepicker.datepicker.utils._24SolarTerms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 二十四节气查询
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SolarTermBenchmark {
+    private final _24SolarTerms.SolarTermsEnum[] terms = _24SolarTerms.SolarTermsEnum.values();
+    private int[] years;
+    // AllJieQi and getNearSolarTerm also read the years before and after
+    private int[] innerYears;
+    private Date[] dates;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        years = Samples.newYears();
+        innerYears = new int[Samples.COUNT];
+        dates = new Date[Samples.COUNT];
+        Random random = new Random(42);
+        Calendar calendar = Calendar.getInstance();
+        for (int i = 0; i < Samples.COUNT; i++) {
+            innerYears[i] = Samples.MIN_YEAR + 1 + random.nextInt(Samples.MAX_YEAR - Samples.MIN_YEAR - 1);
+            calendar.clear();
+            calendar.set(innerYears[i], random.nextInt(12), 1 + random.nextInt(28), 12, 0);
+            dates[i] = calendar.getTime();
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & Samples.MASK;
+    }
+
+    @Benchmark
+    public int getSolarTermNum() {
+        int i = next();
+        return _24SolarTerms.getSolarTermNum(years[i], i % 24);
+    }
+
+    @Benchmark
+    public int getSolarTermNumByEnum() {
+        int i = next();
+        return _24SolarTerms.getSolarTermNum(years[i], terms[i % 24]);
+    }
+
+    @Benchmark
+    public List<Date> allJieQi() {
+        return Lunar.AllJieQi(innerYears[next()]);
+    }
+
+    @Benchmark
+    public int[] getNearSolarTerm() {
+        int i = next();
+        return Lunar.getNearSolarTerm(innerYears[i], dates[i]);
+    }
+}
@@ -0,0 +1,127 @@
+package com.limit.datepicker.datepicker.utils;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+public class CalendarDateUtils {
+    /**
+     * Return if the two calendar is in the same day, ignoring time
+     * @param day1
+     * @param day2
+     * @return
+     */
+    public static boolean isSameDay(Calendar day1, Calendar day2) {
+        return day1.get(Calendar.YEAR) == day2.get(Calendar.YEAR)
+                && day1.get(Calendar.MONTH) == day2.get(Calendar.MONTH)
+                && day1.get(Calendar.DAY_OF_MONTH) == day2.get(Calendar.DAY_OF_MONTH);
+    }
+
+    /**
+     * Return if the two calendar is in the same month
+     * @param day1
+     * @param day2
+     * @return
+     */
+    public static boolean isSameMonth(Calendar day1, Calendar day2) {
+        return day1.get(Calendar.YEAR) == day2.get(Calendar.YEAR)
+                && day1.get(Calendar.MONTH) == day2.get(Calendar.MONTH);
+    }
+
+    /**
+     * Return if the two calendar is in the same year
+     * @param day1
+     * @param day2
+     * @return
+     */
+    public static boolean isSameYear(Calendar day1, Calendar day2) {
+        return day1.get(Calendar.YEAR) == day2.get(Calendar.YEAR);
+    }
+
+
+    /**
+     * Julian day of 1970-01-01 00:00
+     */
+    private static final double EPOCH_JULIAN_DAY = 2440587.5;
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    /**
+     * Get julian day by unix timestamp, taking the wall time of the default time zone
+     * @param mills
+     * @return
+     */
+    public static double getJulianDay(long mills) {
+        return getJulianDay(mills, TimeZone.getDefault());
+    }
+
+    /**
+     * Get julian day by unix timestamp, taking the wall time of the given time zone.
+     * Pure arithmetic, allocates nothing
+     * @param mills
+     * @param timeZone
+     * @return
+     */
+    public static double getJulianDay(long mills, TimeZone timeZone) {
+        long localMills = mills + timeZone.getOffset(mills);
+        long epochDay = SolarDate.floorDiv(localMills, MILLIS_PER_DAY);
+        long millsOfDay = localMills - epochDay * MILLIS_PER_DAY;
+        return getJulianDayOfEpochDay(epochDay) + (double) millsOfDay / MILLIS_PER_DAY;
+    }
+
+    /**
+     * Get the julian day at the start (00:00) of an epoch day
+     * @param epochDay days since 1970-01-01
+     * @return
+     */
+    public static double getJulianDayOfEpochDay(long epochDay) {
+        return epochDay + EPOCH_JULIAN_DAY;
+    }
+
+    /**
+     * Get the epoch day a julian day falls in
+     * @param julianDay
+     * @return days since 1970-01-01
+     */
+    public static long getEpochDay(double julianDay) {
+        return (long) Math.floor(julianDay - EPOCH_JULIAN_DAY);
+    }
+
+    /**
+     * Get unix timestamp by julian day, reading the julian day as wall time of the default time zone
+     * @param julianDay
+     * @return
+     */
+    public static long getMills(double julianDay) {
+        return getMills(julianDay, TimeZone.getDefault());
+    }
+
+    /**
+     * Get unix timestamp by julian day, reading the julian day as wall time of the given time zone.
+     * Pure arithmetic, allocates nothing
+     * @param julianDay
+     * @param timeZone
+     * @return
+     */
+    public static long getMills(double julianDay, TimeZone timeZone) {
+        long epochDay = getEpochDay(julianDay);
+        long millsOfDay = Math.round((julianDay - getJulianDayOfEpochDay(epochDay)) * MILLIS_PER_DAY);
+        return getUtcMills(epochDay * MILLIS_PER_DAY + millsOfDay, timeZone);
+    }
+
+    /**
+     * Convert a wall time of the given time zone to unix timestamp. A wall time skipped by a
+     * daylight saving transition is moved forward by the length of the gap, like a lenient Calendar
+     * @param localMills wall time as milliseconds since 1970-01-01 00:00
+     * @param timeZone
+     * @return
+     */
+    public static long getUtcMills(long localMills, TimeZone timeZone) {
+        // estimate with the standard offset first, then correct with the actual offset at the estimate
+        long estimate = localMills - timeZone.getOffset(localMills - timeZone.getRawOffset());
+        long mills = localMills - timeZone.getOffset(estimate);
+        long gap = localMills - (mills + timeZone.getOffset(mills));
+        if (gap > 0) {
+            mills += gap;
+        }
+        return mills;
+    }
+}
@@ -0,0 +1,325 @@
+package com.limit.datepicker.datepicker.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 节日及放假/调休安排的注册表
+ * <p>
+ * 节日定义被解析为不可变的 {@link Snapshot}, 通过 {@link #setSnapshot(Snapshot)} 或 {@link #load(InputStream)}
+ * 原子地替换当前快照. 读取方只读取一次 volatile 引用, 不会被加载过程阻塞.
+ * <p>
+ * 文本格式每行一项, "#" 开头为注释, 以 [solar] [lunar] [week] 分段:
+ * <pre>
+ * [solar]
+ * 0101*元旦
+ * 1008$
+ * [lunar]
+ * 0101*春节
+ * [week]
+ * 0520 母亲节
+ * </pre>
+ * solar/lunar 段为 MMdd, week 段为 MM + 第几周 + 星期几(0为星期日);
+ * 日期后一位 *表示放假日 $表示调休为工作日 空格表示普通节日, 放假/调休时名称可以省略
+ */
+public final class FestivalRegistry {
+
+    /**
+     * 国历节日 *表示放假日 $表示调休为工作日, 此时后面name部分为1个空格如:"0323$ "
+     */
+    private final static String[] sFtv = {
+        "0101*元旦", "0214 情人节", "0308 妇女节", "0312 植树节",/*"0323$ ",*/
+        /*"0315 消费者权益日", */"0401 愚人节", "0402* ","0403* ", "0404*清明节",
+        "0501*劳动节", "0502* ","0503* ","0504 青年节",
+        /*"0509 郝维节", "0512 护士节", */"0601 儿童节", /*"0701 建党节 香港回归纪念",*/ "0701 建党节",
+        "0801 建军节", /*"0808 父亲节", "0816 燕衔泥节", "0909 毛泽东逝世纪念","0909 重阳节",*/
+        "0910 教师节", /*"0928 孔子诞辰", */
+        "1001*国庆节", "1002* ","1003* ","1004* ","1005* ","1006* ","1007* ",
+        "1006 老人节",
+        /*"1024 联合国日",*/ "1111 光棍节", /*"1112 孙中山诞辰纪念", "1220 澳门回归纪念",*/
+        "1225 圣诞节"/*, "1226 毛泽东诞辰纪念"*/
+    };
+    /**
+     * 农历节日 *表示放假日 $表示调休为工作日, 此时后面name部分为1个空格如:"0323$ "
+     */
+    private final static String[] lFtv = {
+        "0101*春节", /*"0101*弥勒佛诞","0106 定光佛诞", */"0115 元宵节",
+        /*"0208 释迦牟尼佛出家", "0215 释迦牟尼佛涅槃", "0209 海空上师诞",
+        "0219 观世音菩萨诞", "0221 普贤菩萨诞", "0316 准提菩萨诞",
+        "0404 文殊菩萨诞", "0408 释迦牟尼佛诞", "0415 佛吉祥日——释迦牟尼佛诞生、成道、涅槃三期同一庆(即南传佛教国家的卫塞节)",*/
+        "0505 端午节", /*"0513 伽蓝菩萨诞", "0603 护法韦驮尊天菩萨诞",
+        "0619 观世音菩萨成道——此日放生、念佛，功德殊胜",*/
+        "0707 七夕情人节", /*"0713 大势至菩萨诞",*/ "0715 中元节",
+        /*"0724 龙树菩萨诞", "0730 地藏菩萨诞",*/ "0815 中秋节",
+        /*"0822 燃灯佛诞",*/ "0909 重阳节", /*"0919 观世音菩萨出家纪念日",*/
+        /*"0930 药师琉璃光如来诞", "1005 达摩祖师诞", "1107 阿弥陀佛诞",
+        "1208 释迦如来成道日",*/
+        "1208 腊八节","1224 小年",
+        /*"1229 华严菩萨诞", */"0100*除夕"
+    };
+    /**
+     * 某月的第几个星期几,如05月的第二个星期天表示为"0520 母亲节"
+     * *表示放假日
+     * $表示调休为工作日, 此时后面name部分为1个空格如:"0323$ "
+     */
+    private final static String[] wFtv = {
+        "0520 母亲节", "0630 父亲节", /*"0716 合作节", "0730 被奴役国家周"*/
+    };
+
+    private final static Pattern sFreg = Pattern.compile("^(\\d{2})(\\d{2})([\\s\\*\\$])(.+)$");
+    private final static Pattern wFreg = Pattern.compile("^(\\d{2})(\\d)(\\d)([\\s\\*\\$])(.+)$");
+
+    private static volatile Snapshot sSnapshot = new Builder()
+            .addSolar(sFtv)
+            .addLunar(lFtv)
+            .addWeek(wFtv)
+            .build();
+
+    private FestivalRegistry() {
+    }
+
+    /**
+     * 当前的节日快照
+     */
+    public static Snapshot getSnapshot() {
+        return sSnapshot;
+    }
+
+    /**
+     * 原子地替换当前的节日快照, 已经读取到旧快照的调用方不受影响
+     */
+    public static void setSnapshot(Snapshot snapshot) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("snapshot == null");
+        }
+        sSnapshot = snapshot;
+    }
+
+    /**
+     * 从 UTF-8 文本加载节日定义并替换当前快照, 解析失败时保留原快照
+     */
+    public static Snapshot load(InputStream in) throws IOException {
+        Snapshot snapshot = parse(new InputStreamReader(in, "UTF-8"));
+        setSnapshot(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 解析节日定义文本, 不影响当前快照
+     *
+     * @throws IllegalArgumentException 存在格式错误的行
+     */
+    public static Snapshot parse(Reader reader) throws IOException {
+        Builder builder = new Builder();
+        BufferedReader in = new BufferedReader(reader);
+        String section = null;
+        String line;
+        int lineNumber = 0;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (trimmed.length() == 0 || trimmed.startsWith("#")) {
+                continue;
+            }
+            if (trimmed.startsWith("[") && trimmed.endsWith("]")) {
+                section = trimmed.substring(1, trimmed.length() - 1);
+                continue;
+            }
+            if (trimmed.length() == 5) {
+                // 省略名称的放假/调休日
+                trimmed += " ";
+            }
+            boolean added;
+            if ("solar".equals(section)) {
+                added = builder.putDay(builder.sFestivals, trimmed);
+            } else if ("lunar".equals(section)) {
+                added = builder.putDay(builder.lFestivals, trimmed);
+            } else if ("week".equals(section)) {
+                added = builder.putWeek(trimmed);
+            } else {
+                added = false;
+            }
+            if (!added) {
+                throw new IllegalArgumentException("Malformed festival at line " + lineNumber + ": " + line);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 节日, 同一天有多个周节日时合并为一项, 名称以 "|" 分隔
+     */
+    public final static class Festival {
+        private final String name;
+        private final boolean named;
+        private final int workState;
+
+        Festival(String name, boolean named, int workState) {
+            this.name = name;
+            this.named = named;
+            this.workState = workState;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 名称是否有效(不是仅用于标记放假/调休的空格)
+         */
+        public boolean isNamed() {
+            return named;
+        }
+
+        /**
+         * @return Lunar.WORK_STATE_* 之一
+         */
+        public int getWorkState() {
+            return workState;
+        }
+    }
+
+    /**
+     * 不可变的节日索引, 国历/农历节日以 月*32+日 为下标, 周节日以 月*100+周*10+星期 为下标
+     */
+    public final static class Snapshot {
+        private final Festival[] sFestivals;
+        private final Festival[] lFestivals;
+        private final Festival[] wFestivals;
+
+        private Snapshot(Festival[] sFestivals, Festival[] lFestivals, Festival[] wFestivals) {
+            this.sFestivals = sFestivals;
+            this.lFestivals = lFestivals;
+            this.wFestivals = wFestivals;
+        }
+
+        /**
+         * @param month 公历月(1-12)
+         * @param day 公历日
+         * @return 节日, 没有返回 null
+         */
+        public Festival getSolarFestival(int month, int day) {
+            return sFestivals[month * 32 + day];
+        }
+
+        /**
+         * @param month 农历月(1-12)
+         * @param day 农历日
+         * @return 节日, 没有返回 null
+         */
+        public Festival getLunarFestival(int month, int day) {
+            return lFestivals[month * 32 + day];
+        }
+
+        /**
+         * @param month 公历月(1-12)
+         * @param weekOfMonth 当月第几周
+         * @param dayOfWeek 星期几(0为星期日)
+         * @return 节日, 没有返回 null
+         */
+        public Festival getWeekFestival(int month, int weekOfMonth, int dayOfWeek) {
+            return wFestivals[month * 100 + weekOfMonth * 10 + dayOfWeek];
+        }
+    }
+
+    /**
+     * 构建 {@link Snapshot}, 国历/农历节日同一天只保留第一项
+     */
+    public final static class Builder {
+        private final Festival[] sFestivals = new Festival[13 * 32];
+        private final Festival[] lFestivals = new Festival[13 * 32];
+        private final Festival[] wFestivals = new Festival[13 * 100];
+
+        /**
+         * @param entries 国历节日, 如 "0101*元旦"
+         */
+        public Builder addSolar(String... entries) {
+            for (String entry : entries) {
+                checkEntry(putDay(sFestivals, entry), entry);
+            }
+            return this;
+        }
+
+        /**
+         * @param entries 农历节日, 如 "0101*春节"
+         */
+        public Builder addLunar(String... entries) {
+            for (String entry : entries) {
+                checkEntry(putDay(lFestivals, entry), entry);
+            }
+            return this;
+        }
+
+        /**
+         * @param entries 周节日, 如 "0520 母亲节"
+         */
+        public Builder addWeek(String... entries) {
+            for (String entry : entries) {
+                checkEntry(putWeek(entry), entry);
+            }
+            return this;
+        }
+
+        private static void checkEntry(boolean added, String entry) {
+            if (!added) {
+                throw new IllegalArgumentException("Malformed festival: " + entry);
+            }
+        }
+
+        boolean putWeek(String entry) {
+            Matcher m = wFreg.matcher(entry);
+            if (!m.find()) {
+                return false;
+            }
+            int month = Integer.parseInt(m.group(1));
+            if (month > 12) {
+                return false;
+            }
+            int key = month * 100 + Integer.parseInt(m.group(2)) * 10 + Integer.parseInt(m.group(3));
+            Festival festival = parseFestival(m.group(4), m.group(5));
+            Festival previous = wFestivals[key];
+            if (previous != null) {
+                festival = new Festival(previous.name + "|" + festival.name, previous.named || festival.named,
+                        festival.workState != Lunar.WORK_STATE_WORK_DEFAULT ? festival.workState : previous.workState);
+            }
+            wFestivals[key] = festival;
+            return true;
+        }
+
+        boolean putDay(Festival[] festivals, String entry) {
+            Matcher m = sFreg.matcher(entry);
+            if (!m.find()) {
+                return false;
+            }
+            int month = Integer.parseInt(m.group(1));
+            int day = Integer.parseInt(m.group(2));
+            if (month > 12 || day > 31) {
+                return false;
+            }
+            int key = month * 32 + day;
+            if (festivals[key] == null) {
+                festivals[key] = parseFestival(m.group(3), m.group(4));
+            }
+            return true;
+        }
+
+        private static Festival parseFestival(String flag, String name) {
+            int workState = Lunar.WORK_STATE_WORK_DEFAULT;
+            if ("*".equals(flag)) {
+                workState = Lunar.WORK_STATE_REST_DAY;
+            } else if ("$".equals(flag)) {
+                workState = Lunar.WORK_STATE_WORK_DAY;
+            }
+            return new Festival(name, name.length() > 0 && !name.equalsIgnoreCase(" "), workState);
+        }
+
+        public Snapshot build() {
+            return new Snapshot(sFestivals.clone(), lFestivals.clone(), wFestivals.clone());
+        }
+    }
+}
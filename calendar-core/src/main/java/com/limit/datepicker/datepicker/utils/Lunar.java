@@ -3,17 +3,12 @@
  */
 package com.limit.datepicker.datepicker.utils;
 
-import android.text.TextUtils;
-
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.TimeZone;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static com.limit.datepicker.datepicker.utils._24SolarTerms.getSolarTermNum;
 
@@ -27,7 +22,10 @@ public class Lunar {
     public static final int WORK_STATE_REST_DAY = 2;
     public static final int WORK_STATE_WORK_MORNING = 3;
     public static final int WORK_STATE_WORK_AFTERNOON = 4;
-    public static int sFirstDayOfWeek;
+    /**
+     * 默认的每周第一天, 沿用原静态字段 sFirstDayOfWeek 的默认值
+     */
+    public static final int DEFAULT_FIRST_DAY_OF_WEEK = 0;
 
     /**
      * 获得某天前个节气日期差
@@ -35,11 +33,8 @@ public class Lunar {
      * @return 日期数
      */
     public static long getBeforeSolarTerm(int year, Date date) {
-       List<Date> jieQi = AllJieQi(year);
         int[] jieQiBeforeAfter = getNearSolarTerm(year, date);
-        return DateDays(date, jieQi.get(jieQiBeforeAfter[0]));
-
-
+        return DateDays(date.getTime(), getSolarTermMillis(year, jieQiBeforeAfter[0]));
     }
 
     /**
@@ -48,65 +43,67 @@ public class Lunar {
      * @return 日期数
      */
     public static long getAfterSolarTerm(int year, Date date) {
-        List<Date> jieQi = AllJieQi(year);
         int[] jieQiBeforeAfter = getNearSolarTerm(year, date);
-        return DateDays(date, jieQi.get(jieQiBeforeAfter[1]));
-
+        return DateDays(date.getTime(), getSolarTermMillis(year, jieQiBeforeAfter[1]));
     }
 
     public static long DateDays(Date aDate, Date aDate2) {
-        long myTime;
-        long myTime2;
-        long days = 0;
-        myTime = (aDate.getTime() / 1000);
-        // SimpleDateFormat formatter =new SimpleDateFormat("yyyy-MM-dd");
-        myTime2 = (aDate2.getTime() / 1000);
+        return DateDays(aDate.getTime(), aDate2.getTime());
+    }
+
+    private static long DateDays(long aTime, long aTime2) {
+        long myTime = aTime / 1000;
+        long myTime2 = aTime2 / 1000;
         if (myTime > myTime2) {
-            days = (myTime - myTime2) / (1 * 60 * 60 * 24);
-        } else {
-            days = (myTime2 - myTime) / (1 * 60 * 60 * 24);
+            return (myTime - myTime2) / (1 * 60 * 60 * 24);
         }
-        return days;
-    }
-    
-    public static List<Date> AllJieQi(int year)
-    {
-    
-      List<Date> jieQi = new  ArrayList();
-        Date[] temp ;
-        temp = jieQiList(year - 1);
-        jieQi.addAll(Arrays.asList(temp));
-        temp = jieQiList(year);
-        jieQi.addAll(Arrays.asList(temp));
-         temp = jieQiList(year+1);
-        jieQi.addAll(Arrays.asList(temp));
+        return (myTime2 - myTime) / (1 * 60 * 60 * 24);
+    }
+
+    /**
+     * 获得前一年至后一年的所有节气Date, 共72个
+     *
+     * @return
+     */
+    public static List<Date> AllJieQi(int year) {
+        List<Date> jieQi = new ArrayList<Date>(solarTermInfo.length * 3);
+        jieQi.addAll(Arrays.asList(jieQiList(year - 1)));
+        jieQi.addAll(Arrays.asList(jieQiList(year)));
+        jieQi.addAll(Arrays.asList(jieQiList(year + 1)));
         return jieQi;
     }
 
     /**
-     * 获得某天前后两个节气序号
+     * 获得某天前后两个「节」在 {@link #AllJieQi(int)} 中的序号
      *
      * @return
      */
     public static int[] getNearSolarTerm(int year, Date date) {
-      List<Date> jieQi = AllJieQi(year);
-        
+        // 与 AllJieQi 一样, 前后一年都需要在节气表的范围内
+        int first = getSolarTermIndex(year - 1, 0);
+        getSolarTermIndex(year + 1, 0);
         int[] returnValue = new int[2];
-        for (int i = 0; i < jieQi.size(); i++) {
-            if (date.getTime() > jieQi.get(i).getTime()) {
-                continue;
-            }
-            if (i % 2 == 0) {//只管气
-                returnValue[0] = i - 2;
-                returnValue[1] = i;
-            } else {
-                returnValue[0] = i - 1;
-                returnValue[1] = i + 1;
-
-            }
-            break;
+        // 第一个零点不早于 date 的节气
+        long time = date.getTime();
+        int next = ceilingSolarTerm(getLocalEpochDay(time));
+        if (next < solarTermEpochDays.length && getLocalMidnightMillis(solarTermEpochDays[next]) < time) {
+            next++;
+        }
+        int i = next - first;
+        if (i >= solarTermInfo.length * 3) {
+            return returnValue;
+        }
+        // 早于前一年小寒的日期与原先逐个比较一样, 落在第一个节气上, 返回 {-2, 0}
+        if (i < 0) {
+            i = 0;
+        }
+        if (i % 2 == 0) {//只管节
+            returnValue[0] = i - 2;
+            returnValue[1] = i;
+        } else {
+            returnValue[0] = i - 1;
+            returnValue[1] = i + 1;
         }
-
         return returnValue;
     }
 
@@ -117,15 +114,86 @@ public class Lunar {
      */
     public static Date[] jieQiList(int year) {
         Date[] result = new Date[solarTermInfo.length];
-
         for (int i = 0; i < solarTermInfo.length; i++) {
+            result[i] = getSolarTermCalendar(year, i);
+        }
+        return result;
+    }
 
-            Date t = getSolarTermCalendar(year, i);
-            result[i] = t;
+    /**
+     * 返回 {@link #AllJieQi(int)} 中指定序号节气零点的时间戳
+     */
+    private static long getSolarTermMillis(int year, int jieQiIndex) {
+        if (jieQiIndex < 0 || jieQiIndex >= solarTermInfo.length * 3) {
+            throw new IndexOutOfBoundsException("Invalid index " + jieQiIndex);
+        }
+        return getLocalMidnightMillis(solarTermEpochDays[getSolarTermIndex(year - 1, 0) + jieQiIndex]);
+    }
 
+    /**
+     * 返回节气在节气表中的序号
+     *
+     * @param solarYear 指定公历年份(数字), 1901-2100
+     * @param index 指定节气序号(数字,0从小寒算起)
+     * @return 序号(数字), 用于 {@link #getSolarTermEpochDay(int)}
+     */
+    public static int getSolarTermIndex(int solarYear, int index) {
+        if (solarYear < SOLAR_TERM_MIN_YEAR || solarYear > SOLAR_TERM_MAX_YEAR) {
+            throw new RuntimeException("不支持此年份：" + solarYear + "，目前只支持1901年到2100年的时间范围");
         }
-        return result;
+        return (solarYear - SOLAR_TERM_MIN_YEAR) * 24 + index;
+    }
+
+    /**
+     * 返回节气表中的节气日期
+     *
+     * @param termIndex 节气在节气表中的序号, 见 {@link #getSolarTermIndex(int, int)}, 除以24的余数即节气序号(0从小寒算起)
+     * @return 距 1970年1月1日 的天数
+     */
+    public static int getSolarTermEpochDay(int termIndex) {
+        return solarTermEpochDays[termIndex];
+    }
+
+    /**
+     * 返回节气表中的节气名称
+     *
+     * @param termIndex 节气在节气表中的序号, 见 {@link #getSolarTermIndex(int, int)}
+     * @return 节气名称(例:冬至)
+     */
+    public static String getSolarTermName(int termIndex) {
+        return solarTermInfo[termIndex % solarTermInfo.length].getName();
+    }
+
+    /**
+     * 二分查找指定日期当天或之前的最后一个节气, 不产生任何对象
+     *
+     * @param epochDay 距 1970年1月1日 的天数
+     * @return 节气在节气表中的序号, 早于1901年小寒时返回 -1
+     */
+    public static int floorSolarTerm(long epochDay) {
+        return ceilingSolarTerm(epochDay + 1) - 1;
+    }
+
+    /**
+     * 二分查找指定日期当天或之后的第一个节气, 不产生任何对象
+     *
+     * @param epochDay 距 1970年1月1日 的天数
+     * @return 节气在节气表中的序号, 晚于2100年冬至时返回节气表的长度
+     */
+    public static int ceilingSolarTerm(long epochDay) {
+        int low = 0;
+        int high = solarTermEpochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (solarTermEpochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
+
     private final static int[] lunarInfo = {
         0x4bd8, 0x4ae0, 0xa570, 0x54d5, 0xd260, 0xd950, 0x5554, 0x56af,
         0x9ad0, 0x55d2, 0x4ae0, 0xa5b6, 0xa4d0, 0xd250, 0xd295, 0xb54f,
@@ -179,6 +247,21 @@ public class Lunar {
             _24SolarTerms.SolarTermsEnum.DAXUE,//大雪
             _24SolarTerms.SolarTermsEnum.DONGZHI//冬至
     };
+    private final static int SOLAR_TERM_MIN_YEAR = 1901;
+    private final static int SOLAR_TERM_MAX_YEAR = 2100;
+    /**
+     * 1901年到2100年按时间先后排列的节气日期(距 1970年1月1日 的天数), 每年24项, 从小寒算起
+     */
+    private final static int[] solarTermEpochDays = new int[(SOLAR_TERM_MAX_YEAR - SOLAR_TERM_MIN_YEAR + 1) * 24];
+
+    static {
+        for (int year = SOLAR_TERM_MIN_YEAR; year <= SOLAR_TERM_MAX_YEAR; year++) {
+            for (int index = 0; index < 24; index++) {
+                solarTermEpochDays[(year - SOLAR_TERM_MIN_YEAR) * 24 + index] =
+                        (int) SolarDate.toEpochDay(year, index / 2 + 1, getSolarTermDay(year, index));
+            }
+        }
+    }
     public final static String[] TianGan = {
         "甲", "乙", "丙", "丁", "戊", "己", "庚", "辛", "壬", "癸"
     };
@@ -200,129 +283,91 @@ public class Lunar {
     public final static String[] lunarString3 = {
             "年", "月", "日", "闰"
     };
-
     /**
-     * 国历节日 *表示放假日 $表示调休为工作日, 此时后面name部分为1个空格如:"0323$ "
+     * 农历日字符串(初一至三十), 下标为 日 - 1
      */
-    private final static String[] sFtv = {
-        "0101*元旦", "0214 情人节", "0308 妇女节", "0312 植树节",/*"0323$ ",*/
-        /*"0315 消费者权益日", */"0401 愚人节", "0402* ","0403* ", "0404*清明节",
-        "0501*劳动节", "0502* ","0503* ","0504 青年节",
-        /*"0509 郝维节", "0512 护士节", */"0601 儿童节", /*"0701 建党节 香港回归纪念",*/ "0701 建党节",
-        "0801 建军节", /*"0808 父亲节", "0816 燕衔泥节", "0909 毛泽东逝世纪念","0909 重阳节",*/
-        "0910 教师节", /*"0928 孔子诞辰", */
-        "1001*国庆节", "1002* ","1003* ","1004* ","1005* ","1006* ","1007* ",
-        "1006 老人节",
-        /*"1024 联合国日",*/ "1111 光棍节", /*"1112 孙中山诞辰纪念", "1220 澳门回归纪念",*/
-        "1225 圣诞节"/*, "1226 毛泽东诞辰纪念"*/
-    };
+    private final static String[] lunarDayStrings = new String[30];
     /**
-     * 农历节日 *表示放假日 $表示调休为工作日, 此时后面name部分为1个空格如:"0323$ "
-     */
-    private final static String[] lFtv = {
-        "0101*春节", /*"0101*弥勒佛诞","0106 定光佛诞", */"0115 元宵节",
-        /*"0208 释迦牟尼佛出家", "0215 释迦牟尼佛涅槃", "0209 海空上师诞",
-        "0219 观世音菩萨诞", "0221 普贤菩萨诞", "0316 准提菩萨诞",
-        "0404 文殊菩萨诞", "0408 释迦牟尼佛诞", "0415 佛吉祥日——释迦牟尼佛诞生、成道、涅槃三期同一庆(即南传佛教国家的卫塞节)",*/
-        "0505 端午节", /*"0513 伽蓝菩萨诞", "0603 护法韦驮尊天菩萨诞",
-        "0619 观世音菩萨成道——此日放生、念佛，功德殊胜",*/
-        "0707 七夕情人节", /*"0713 大势至菩萨诞",*/ "0715 中元节",
-        /*"0724 龙树菩萨诞", "0730 地藏菩萨诞",*/ "0815 中秋节",
-        /*"0822 燃灯佛诞",*/ "0909 重阳节", /*"0919 观世音菩萨出家纪念日",*/
-        /*"0930 药师琉璃光如来诞", "1005 达摩祖师诞", "1107 阿弥陀佛诞",
-        "1208 释迦如来成道日",*/
-        "1208 腊八节","1224 小年",
-        /*"1229 华严菩萨诞", */"0100*除夕"
-    };
+     * 小月的农历日字符串(初一至廿九)
+     */
+    private final static String[] lunarShortMonthDayStrings = new String[29];
     /**
-     * 某月的第几个星期几,如05月的第二个星期天表示为"0520 母亲节"
-     * *表示放假日
-     * $表示调休为工作日, 此时后面name部分为1个空格如:"0323$ "
+     * 农历月字符串(正月至腊月), 下标为 月 - 1
      */
-    private static String[] wFtv = {
-        "0520 母亲节", "0630 父亲节", /*"0716 合作节", "0730 被奴役国家周"*/
-    };
+    private final static String[] lunarMonthStrings = new String[12];
+    private final static String[] lunarLeapMonthStrings = new String[12];
+    /**
+     * 一年中各月的字符串, 闰月紧跟在所闰月份之后, 以闰月(0为无闰月)为下标
+     */
+    private final static String[][] lunarYearMonthStrings = new String[13][];
 
-    private static int toInt(String str) {
-        try {
-            return Integer.parseInt(str);
-        } catch (Exception e) {
-            return -1;
+    static {
+        for (int day = 1; day <= 30; day++) {
+            lunarDayStrings[day - 1] = buildLunarDayString(day);
+        }
+        System.arraycopy(lunarDayStrings, 0, lunarShortMonthDayStrings, 0, 29);
+        for (int i = 0; i < 12; i++) {
+            lunarMonthStrings[i] = lunarMonthString[i] + lunarString3[1];
+            lunarLeapMonthStrings[i] = lunarString3[3] + lunarMonthStrings[i];
+        }
+        for (int leapMonth = 0; leapMonth <= 12; leapMonth++) {
+            String[] strings = new String[leapMonth > 0 ? 13 : 12];
+            int index = 0;
+            for (int i = 0; i < 12; i++) {
+                strings[index++] = lunarMonthStrings[i];
+                if (i + 1 == leapMonth) {
+                    strings[index++] = lunarLeapMonthStrings[i];
+                }
+            }
+            lunarYearMonthStrings[leapMonth] = strings;
         }
     }
-    private final static Pattern sFreg = Pattern.compile("^(\\d{2})(\\d{2})([\\s\\*\\$])(.+)$");
-    //阳历
-    private final static Pattern wFreg = Pattern.compile("^(\\d{2})(\\d)(\\d)([\\s\\*\\$])(.+)$");
 
-    private synchronized void findFestival() {
+    private void findFestival() {
         int sM = this.getSolarMonth();
         int sD = this.getSolarDay();
         int lM = this.getLunarMonth();
         int lD = this.getLunarDay();
         int sy = this.getSolarYear();
-        Matcher m;
-        for (int i = 0; i < Lunar.sFtv.length; i++) {
-            m = Lunar.sFreg.matcher(Lunar.sFtv[i]);
-            if (m.find()) {
-                if (sM == Lunar.toInt(m.group(1)) && sD == Lunar.toInt(m.group(2))) {
-                    this.sFestivalName = m.group(4);
-                    this.isSFestival = !TextUtils.isEmpty(this.sFestivalName)
-                            && !this.sFestivalName.equalsIgnoreCase(" ");
-                    if ("*".equals(m.group(3))) {
-                        this.workState = WORK_STATE_REST_DAY;
-                    }else if("$".equals(m.group(3))) {
-                        this.workState = WORK_STATE_WORK_DAY;
-                    }
-                    break;
-                }
+        FestivalRegistry.Snapshot snapshot = FestivalRegistry.getSnapshot();
+        boolean isSFestival = false;
+        boolean isLFestival = false;
+        String sFestivalName = "";
+        String lFestivalName = "";
+        int workState = WORK_STATE_WORK_DEFAULT;
+        FestivalRegistry.Festival festival = snapshot.getSolarFestival(sM, sD);
+        if (festival != null) {
+            sFestivalName = festival.getName();
+            isSFestival = festival.isNamed();
+            if (festival.getWorkState() != WORK_STATE_WORK_DEFAULT) {
+                workState = festival.getWorkState();
             }
         }
-        for (int i = 0; i < Lunar.lFtv.length; i++) {
-            m = Lunar.sFreg.matcher(Lunar.lFtv[i]);
-            if (m.find()) {
-                if (lM == Lunar.toInt(m.group(1)) && lD == Lunar.toInt(m.group(2))) {
-                    this.lFestivalName = m.group(4);
-                    this.isLFestival = !TextUtils.isEmpty(this.lFestivalName)
-                            && !this.lFestivalName.equalsIgnoreCase(" ");
-                    if ("*".equals(m.group(3))) {
-                        this.workState = WORK_STATE_REST_DAY;
-                    }else if("$".equals(m.group(3))) {
-                        this.workState = WORK_STATE_WORK_DAY;
-                    }
-                    break;
-                }
+        festival = snapshot.getLunarFestival(lM, lD);
+        if (festival != null) {
+            lFestivalName = festival.getName();
+            isLFestival = festival.isNamed();
+            if (festival.getWorkState() != WORK_STATE_WORK_DEFAULT) {
+                workState = festival.getWorkState();
             }
         }
 
-        // 月周节日
-        int w, d;
-        for (int i = 0; i < Lunar.wFtv.length; i++) {
-            m = Lunar.wFreg.matcher(Lunar.wFtv[i]);
-            if (m.find()) {
-                if (this.getSolarMonth() == Lunar.toInt(m.group(1))) {
-                    w = Lunar.toInt(m.group(2));
-                    d = Lunar.toInt(m.group(3));
-                    if(sFirstDayOfWeek>=0) {
-                        this.solar.setFirstDayOfWeek(sFirstDayOfWeek);
-                    }
-                    if (this.solar.get(Calendar.WEEK_OF_MONTH) == w
-                            && this.solar.get(Calendar.DAY_OF_WEEK)-1 == d) {
-
-                        boolean found = !TextUtils.isEmpty(m.group(5))
-                                && !m.group(5).equalsIgnoreCase(" ");
-
-                        this.isSFestival = this.isSFestival || found;
-                        this.sFestivalName += "|" + m.group(5);
-
-                        if ("*".equals(m.group(4))) {
-                            this.workState = WORK_STATE_REST_DAY;
-                        }else if("$".equals(m.group(3))) {
-                            this.workState = WORK_STATE_WORK_DAY;
-                        }
-                    }
-                }
+        // 月周节日, 每周第一天已在 init 中设置
+        festival = snapshot.getWeekFestival(sM, this.solar.get(Calendar.WEEK_OF_MONTH),
+                this.solar.get(Calendar.DAY_OF_WEEK) - 1);
+        if (festival != null) {
+            isSFestival = isSFestival || festival.isNamed();
+            sFestivalName = sFestivalName.length() == 0 ? festival.getName() : sFestivalName + "|" + festival.getName();
+            if (festival.getWorkState() != WORK_STATE_WORK_DEFAULT) {
+                workState = festival.getWorkState();
             }
         }
+        this.isSFestival = isSFestival;
+        this.isLFestival = isLFestival;
+        this.sFestivalName = sFestivalName;
+        this.lFestivalName = lFestivalName;
+        this.workState = workState;
+        this.description = "";
         if (sy > 1874 && sy < 1909) {
             this.description = "光绪" + (((sy - 1874) == 1) ? "元" : "" + (sy - 1874));
         }
@@ -336,10 +381,20 @@ public class Lunar {
             this.description = "共和国" + (((sy - 1949) == 1) ? "元" : String.valueOf(sy - 1949));
         }
         this.description += lunarString3[0];
-        this.sFestivalName = this.sFestivalName.replaceFirst("^\\|", "");
-        this.isFound = true;
+        this.festivalSnapshot = snapshot;
     }
-    private boolean isFound = false;
+
+    /**
+     * 节日信息所依据的快照, 与 FestivalRegistry 当前快照不同时需要重新查找
+     */
+    private FestivalRegistry.Snapshot festivalSnapshot;
+
+    private void ensureFestival() {
+        if (this.festivalSnapshot != FestivalRegistry.getSnapshot()) {
+            this.findFestival();
+        }
+    }
+
     private boolean isSFestival = false;
     private boolean isLFestival = false;
     private String sFestivalName = "";
@@ -385,19 +440,7 @@ public class Lunar {
      * @return 该农历年的总天数(数字)
      */
     private static int getLunarYearDays(int lunarYear) {
-        // 按小月计算,农历年最少有12 * 29 = 348天
-        int daysInLunarYear = 348;
-        // 数据表中,每个农历年用16bit来表示,
-        // 前12bit分别表示12个月份的大小月,最后4bit表示闰月
-        // 每个大月累加一天
-        for (int i = 0x8000; i > 0x8; i >>= 1) {
-            daysInLunarYear += ((Lunar.lunarInfo[lunarYear - 1900] & i) != 0) ? 1
-                    : 0;
-        }
-        // 加上闰月天数
-        daysInLunarYear += Lunar.getLunarLeapDays(lunarYear);
-
-        return daysInLunarYear;
+        return LunarDate.getYearDays(lunarYear);
     }
 
     /**
@@ -421,40 +464,26 @@ public class Lunar {
      * @param date 指定日期
      * @return UTC 全球标准时间 (UTC) 表示的日期
      */
-    public static synchronized int getUTCDay(Date date) {
-        Lunar.makeUTCCalendar();
-        synchronized (utcCal) {
-            utcCal.clear();
-            utcCal.setTimeInMillis(date.getTime());
-            return utcCal.get(Calendar.DAY_OF_MONTH);
-        }
-    }
-    private static GregorianCalendar utcCal = null;
-
-    private static synchronized void makeUTCCalendar() {
-        if (Lunar.utcCal == null) {
-            Lunar.utcCal = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
-        }
+    public static int getUTCDay(Date date) {
+        return SolarDate.getDay(SolarDate.fromEpochDay(SolarDate.floorDiv(date.getTime(), 86400000)));
     }
 
     /**
      * 返回全球标准时间 (UTC) (或 GMT) 的 1970 年 1 月 1 日到所指定日期之间所间隔的毫秒数。
      *
      * @param y 指定年份
-     * @param m 指定月份
+     * @param m 指定月份(0-11), 与宽松模式的 Calendar 一样, 超出范围时进位到年份
      * @param d 指定日期
      * @param h 指定小时
      * @param min 指定分钟
      * @param sec 指定秒数
      * @return 全球标准时间 (UTC) (或 GMT) 的 1970 年 1 月 1 日到所指定日期之间所间隔的毫秒数
      */
-    public static synchronized long UTC(int y, int m, int d, int h, int min, int sec) {
-        Lunar.makeUTCCalendar();
-        synchronized (utcCal) {
-            utcCal.clear();
-            utcCal.set(y, m, d, h, min, sec);
-            return utcCal.getTimeInMillis();
-        }
+    public static long UTC(int y, int m, int d, int h, int min, int sec) {
+        long year = y + SolarDate.floorDiv(m, 12);
+        int month = (int) SolarDate.floorMod(m, 12) + 1;
+        long epochDay = SolarDate.toEpochDay((int) year, month, 1) + d - 1;
+        return ((epochDay * 24 + h) * 60 + min) * 60000L + sec * 1000L;
     }
 
     /**
@@ -465,7 +494,8 @@ public class Lunar {
      * @return 日期(数字,所在月份的第几天)
      */
     private static int getSolarTermDay(int solarYear, int index) {
-        return getSolarTermNum(solarYear, solarTermInfo[index]);
+        // 小寒、大寒在 SolarTermsEnum 中排在最后
+        return getSolarTermNum(solarYear, (index + 22) % 24);
     }
 
     /**
@@ -476,21 +506,23 @@ public class Lunar {
      * @return 日期(数字,所在月份的第几天)
      */
     public static Date getSolarTermCalendar(int solarYear, int index) {
-        return new GregorianCalendar(solarYear,index/2, getSolarTermNum(solarYear, solarTermInfo[index])).getTime();
+        return new Date(getLocalMidnightMillis(solarTermEpochDays[getSolarTermIndex(solarYear, index)]));
     }
     private Calendar solar;
-    private int lunarYear;
-    private int lunarMonth;
-    private int lunarDay;
-    private boolean isLeap;
-    private boolean isLeapYear;
+    /**
+     * 每周第一天, 用于计算按第几周定义的节日, 小于0时使用 Calendar 的默认值
+     */
+    private final int firstDayOfWeek;
+    /**
+     * 压缩的农历日期, 见 {@link LunarDate}
+     */
+    private int lunarDate;
     private int solarYear;
     private int solarMonth;
     private int solarDay;
     private int cyclicalYear = 0;
     private int cyclicalMonth = 0;
     private int cyclicalDay = 0;
-    private int maxDayInMonth = 29;
 
     /**
      * 通过 Date 对象构建农历信息
@@ -498,10 +530,17 @@ public class Lunar {
      * @param date 指定日期对象
      */
     public Lunar(Date date) {
-        if (date == null) {
-            date = new Date();
-        }
-        this.init(date.getTime());
+        this(date, DEFAULT_FIRST_DAY_OF_WEEK);
+    }
+
+    /**
+     * 通过 Date 对象构建农历信息
+     *
+     * @param date 指定日期对象
+     * @param firstDayOfWeek 每周第一天, 小于0时使用 Calendar 的默认值
+     */
+    public Lunar(Date date, int firstDayOfWeek) {
+        this(date == null ? System.currentTimeMillis() : date.getTime(), firstDayOfWeek);
     }
 
     /**
@@ -510,66 +549,28 @@ public class Lunar {
      * @param TimeInMillis
      */
     public Lunar(long TimeInMillis) {
+        this(TimeInMillis, DEFAULT_FIRST_DAY_OF_WEEK);
+    }
+
+    /**
+     * 通过 TimeInMillis 构建农历信息, 每周第一天由调用方指定而不是读取共享的静态字段,
+     * 因此可以在多个线程中同时构建
+     *
+     * @param TimeInMillis
+     * @param firstDayOfWeek 每周第一天, 小于0时使用 Calendar 的默认值
+     */
+    public Lunar(long TimeInMillis, int firstDayOfWeek) {
+        this.firstDayOfWeek = firstDayOfWeek;
         this.init(TimeInMillis);
     }
 
     private void init(long TimeInMillis) {
         this.solar = Calendar.getInstance();
-        if(sFirstDayOfWeek >=0){
-            this.solar.setFirstDayOfWeek(sFirstDayOfWeek);
+        if(firstDayOfWeek >=0){
+            this.solar.setFirstDayOfWeek(firstDayOfWeek);
         }
         this.solar.setTimeInMillis(TimeInMillis);
-        Calendar baseDate = new GregorianCalendar(1900, 0, 31);
-        long offset = (TimeInMillis - baseDate.getTimeInMillis()) / 86400000;
-        // 按农历年递减每年的农历天数，确定农历年份
-        this.lunarYear = 1900;
-        int daysInLunarYear = Lunar.getLunarYearDays(this.lunarYear);
-        while (this.lunarYear < 2100 && offset >= daysInLunarYear) {
-            offset -= daysInLunarYear;
-            daysInLunarYear = Lunar.getLunarYearDays(++this.lunarYear);
-        }
-        // 农历年数字
-
-        // 按农历月递减每月的农历天数，确定农历月份
-        int lunarMonth = 1;
-        // 所在农历年闰哪个月,若没有返回0
-        int leapMonth = Lunar.getLunarLeapMonth(this.lunarYear);
-        // 是否闰年
-        this.isLeapYear = leapMonth > 0;
-        // 闰月是否递减
-        boolean leapDec = false;
-        boolean isLeap = false;
-        int daysInLunarMonth = 0;
-        while (lunarMonth < 13 && offset > 0) {
-            if (isLeap && leapDec) { // 如果是闰年,并且是闰月
-                // 所在农历年闰月的天数
-                daysInLunarMonth = Lunar.getLunarLeapDays(this.lunarYear);
-                leapDec = false;
-            } else {
-                // 所在农历年指定月的天数
-                daysInLunarMonth = Lunar.getLunarMonthDays(this.lunarYear, lunarMonth);
-            }
-            if (offset < daysInLunarMonth) {
-                break;
-            }
-            offset -= daysInLunarMonth;
-
-            if (leapMonth == lunarMonth && isLeap == false) {
-                // 下个月是闰月
-                leapDec = true;
-                isLeap = true;
-            } else {
-                // 月份递增
-                lunarMonth++;
-            }
-        }
-        this.maxDayInMonth = daysInLunarMonth;
-        // 农历月数字
-        this.lunarMonth = lunarMonth;
-        // 是否闰月
-        this.isLeap = (lunarMonth == leapMonth && isLeap);
-        // 农历日数字
-        this.lunarDay = (int) offset + 1;
+        this.lunarDate = Lunar.toLunarDate(TimeInMillis);
         // 取得干支历
         this.getCyclicalData();
     }
@@ -577,45 +578,47 @@ public class Lunar {
 
 
     /**
-     * 将农历时间转为标准时间戳, 范围从1970年-2100年
+     * 将农历时间转为标准时间戳, 范围从1900年-2100年
      * @param lunarYear
      * @param lunarMonth
      * @param isLeapMonth
      * @param lunarDay
-     * @return
+     * @return 当天零点(默认时区)的时间戳
      */
     public static long getTimeInMillsWithLunar(int lunarYear, int lunarMonth, boolean isLeapMonth, int lunarDay) {
-        if (lunarYear > 2100 || lunarYear < 1970 || lunarMonth < 1 || lunarMonth > 12 || lunarDay < 1 || lunarDay > 30) {
-            throw new IllegalArgumentException();
-        }
-        final int BASE_YEAR = 1969;
-        // 从农历1969年1月1日起算
-        Calendar baseDate = new GregorianCalendar(BASE_YEAR, 1, 17);
-        int offset = 0;
-
-        // calc whole year days
-        int tmp = lunarYear;
-        while (tmp > BASE_YEAR) {
-            offset += Lunar.getLunarYearDays(--tmp);
-        }
+        long epochDay = LunarDate.toEpochDay(lunarYear, lunarMonth, isLeapMonth, lunarDay);
+        return Lunar.getLocalMidnightMillis(epochDay);
+    }
 
-        tmp = lunarMonth;
-        int leapMonth = Lunar.getLunarLeapMonth(lunarYear);
-        boolean isLeap = leapMonth > 0;
-        if (isLeapMonth && leapMonth == lunarMonth) {
-            offset += Lunar.getLunarMonthDays(lunarYear, lunarMonth);
-        }
-        while (tmp > 1) {
-            --tmp;
-            if (isLeap && tmp == leapMonth) {
-                offset += Lunar.getLunarLeapDays(lunarYear);
-            }
-            offset += Lunar.getLunarMonthDays(lunarYear, tmp);
-        }
+    /**
+     * 将标准时间戳转为压缩的农历日期, 不产生任何对象
+     *
+     * @param TimeInMillis 时间戳, 范围为农历1900年正月初一至2100年除夕
+     * @return 压缩的农历日期, 见 {@link LunarDate}
+     */
+    public static int toLunarDate(long TimeInMillis) {
+        return LunarDate.fromEpochDay(Lunar.getLocalEpochDay(TimeInMillis));
+    }
 
-        offset += lunarDay - 1;
-        baseDate.add(Calendar.DAY_OF_YEAR, offset);
-        return baseDate.getTimeInMillis();
+    /**
+     * 返回时间戳在默认时区中的日期
+     *
+     * @param millis 时间戳
+     * @return 距 1970年1月1日 的天数
+     */
+    private static long getLocalEpochDay(long millis) {
+        return SolarDate.floorDiv(millis + TimeZone.getDefault().getOffset(millis), 86400000);
+    }
+
+    /**
+     * 返回默认时区中指定日期零点的时间戳
+     *
+     * @param epochDay 距 1970年1月1日 的天数
+     * @return 时间戳
+     */
+    private static long getLocalMidnightMillis(long epochDay) {
+        // 零点恰好处于夏令时跳过的时段时, 与 Calendar 一样顺延跳过的时长
+        return CalendarDateUtils.getUtcMills(epochDay * 86400000L, TimeZone.getDefault());
     }
 
     /**
@@ -651,7 +654,8 @@ public class Lunar {
 
         // 当月一日与 1900/1/1 相差天数
         // 1900/1/1与 1970/1/1 相差25567日, 1900/1/1 日柱为甲戌日(60进制10)
-        cyclicalDay = (int) (Lunar.UTC(solarYear, solarMonth, solarDay, 0, 0, 0) / 86400000 + 25567 + 10) % 60;
+        long epochDay = SolarDate.toEpochDay(solarYear, solarMonth + 1, solarDay);
+        cyclicalDay = (int) (epochDay + 25567 + 10) % 60;
         this.cyclicalYear = cyclicalYear;
         this.cyclicalMonth = cyclicalMonth;
         this.cyclicalDay = cyclicalDay;
@@ -663,7 +667,7 @@ public class Lunar {
      * @return 农历年生肖(例:龙)
      */
     public String getAnimalString() {
-        return Lunar.Animals[(this.lunarYear - 4) % 12];
+        return Lunar.Animals[(this.getLunarYear() - 4) % 12];
     }
 
     private String mTermString=null;
@@ -674,7 +678,7 @@ public class Lunar {
      */
     public String getTermString() {
         // 二十四节气
-        if(!TextUtils.isEmpty(mTermString))
+        if(mTermString != null && mTermString.length() > 0)
         {
             return mTermString;
         }
@@ -784,7 +788,7 @@ public class Lunar {
      * @return 农历日期字符串
      */
     public String getLunarDayString() {
-        return Lunar.getLunarDayString(this.lunarDay);
+        return Lunar.getLunarDayString(this.getLunarDay());
     }
 
     /**
@@ -793,7 +797,7 @@ public class Lunar {
      * @return 农历日期字符串
      */
     public String getLunarMonthString() {
-        return (this.isLeap() ? lunarString3[3] : "") + Lunar.getLunarMonthString(this.lunarMonth);
+        return Lunar.getLunarMonthString(this.getLunarMonth(), this.isLeap());
     }
 
     /**
@@ -802,7 +806,7 @@ public class Lunar {
      * @return 农历日期字符串
      */
     public String getLunarYearString() {
-        return Lunar.getLunarYearString(this.lunarYear);
+        return Lunar.getLunarYearString(this.getLunarYear());
     }
 
     /**
@@ -822,7 +826,7 @@ public class Lunar {
      * @return 农历年是否是闰月
      */
     public boolean isLeap() {
-        return isLeap;
+        return LunarDate.isLeapMonth(lunarDate);
     }
 
     /**
@@ -831,7 +835,7 @@ public class Lunar {
      * @return 农历年是否是闰年
      */
     public boolean isLeapYear() {
-        return isLeapYear;
+        return Lunar.getLunarLeapMonth(this.getLunarYear()) > 0;
     }
 
     /**
@@ -849,7 +853,7 @@ public class Lunar {
      * @return 当前农历月有多少天
      */
     public int getMaxDayInMonth() {
-        return this.maxDayInMonth;
+        return LunarDate.getMonthDays(lunarDate);
     }
 
     /**
@@ -858,7 +862,7 @@ public class Lunar {
      * @return 农历日期
      */
     public int getLunarDay() {
-        return lunarDay;
+        return LunarDate.getDay(lunarDate);
     }
 
     /**
@@ -867,7 +871,7 @@ public class Lunar {
      * @return 农历月份
      */
     public int getLunarMonth() {
-        return lunarMonth;
+        return LunarDate.getMonth(lunarDate);
     }
 
     /**
@@ -876,7 +880,7 @@ public class Lunar {
      * @return 农历年份
      */
     public int getLunarYear() {
-        return lunarYear;
+        return LunarDate.getYear(lunarDate);
     }
 
     /**
@@ -942,6 +946,7 @@ public class Lunar {
      * @return 公历节日名称,如果不是节日返回空串
      */
     public String getSFestivalName() {
+        this.ensureFestival();
         return this.sFestivalName;
     }
 
@@ -951,6 +956,7 @@ public class Lunar {
      * @return 农历节日名称,如果不是节日返回空串
      */
     public String getLFestivalName() {
+        this.ensureFestival();
         return this.lFestivalName;
     }
 
@@ -960,9 +966,7 @@ public class Lunar {
      * @return 是否是农历节日
      */
     public boolean isLFestival() {
-        if (!this.isFound) {
-            this.findFestival();
-        }
+        this.ensureFestival();
         return this.isLFestival;
     }
 
@@ -972,9 +976,7 @@ public class Lunar {
      * @return 是否是公历节日
      */
     public boolean isSFestival() {
-        if (!this.isFound) {
-            this.findFestival();
-        }
+        this.ensureFestival();
         return this.isSFestival;
     }
 
@@ -993,9 +995,7 @@ public class Lunar {
      * @return 是否是放假日
      */
     public int getWorkState() {
-        if (!this.isFound) {
-            this.findFestival();
-        }
+        this.ensureFestival();
         return this.workState;
     }
 
@@ -1005,9 +1005,7 @@ public class Lunar {
      * @return 日期说明(如:民国2年)
      */
     public String getDescription() {
-        if (!this.isFound) {
-            this.findFestival();
-        }
+        this.ensureFestival();
         return this.description;
     }
 
@@ -1058,7 +1056,43 @@ public class Lunar {
      * @return 农历月份字符串 (例:正)
      */
     public static String getLunarMonthString(int lunarMonth) {
-        return lunarMonthString[lunarMonth - 1] + lunarString3[1];
+        return lunarMonthStrings[lunarMonth - 1];
+    }
+
+    /**
+     * 返回指定数字的农历月份表示字符串
+     *
+     * @param lunarMonth 农历月份(数字)
+     * @param isLeapMonth 是否闰月
+     * @return 农历月份字符串 (例:闰六月)
+     */
+    public static String getLunarMonthString(int lunarMonth, boolean isLeapMonth) {
+        return isLeapMonth ? lunarLeapMonthStrings[lunarMonth - 1] : lunarMonthStrings[lunarMonth - 1];
+    }
+
+    /**
+     * 返回农历年中各月的表示字符串, 返回的数组是共享的, 不能修改
+     *
+     * @param lunarYear 农历年份(数字)
+     * @return 农历月份字符串(12或13项, 闰月紧跟在所闰月份之后, 例: 六月, 闰六月, 七月)
+     */
+    public static String[] getLunarMonthStrings(int lunarYear) {
+        return lunarYearMonthStrings[getLunarLeapMonth(lunarYear)];
+    }
+
+    /**
+     * 返回农历月中各日的表示字符串, 返回的数组是共享的, 不能修改
+     *
+     * @param days 农历月的天数(数字)
+     * @return 农历日字符串(从初一算起)
+     */
+    public static String[] getLunarDayStrings(int days) {
+        if (days == 30) {
+            return lunarDayStrings;
+        } else if (days == 29) {
+            return lunarShortMonthDayStrings;
+        }
+        return Arrays.copyOf(lunarDayStrings, days);
     }
 
     /**
@@ -1071,6 +1105,10 @@ public class Lunar {
         if (lunarDay < 1 || lunarDay > 30) {
             return "";
         }
+        return lunarDayStrings[lunarDay - 1];
+    }
+
+    private static String buildLunarDayString(int lunarDay) {
         int i1 = lunarDay / 10;
         int i2 = lunarDay % 10;
         String c1 = Lunar.lunarString2[i1];
@@ -1096,7 +1134,7 @@ public class Lunar {
             result = getLFestivalName();
         }else {
             result = getTermString();
-            if(TextUtils.isEmpty(result)) {
+            if(result == null || result.length() == 0) {
                 result = getLunarDayString();
                 if (result.equals("初一")) {
                     result = getLunarMonthString();
@@ -0,0 +1,102 @@
+package com.limit.datepicker.datepicker.utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 在 {@link ForkJoinPool} 上并行地批量公历转农历, 用于预先生成多年日历的批处理任务
+ * <p>
+ * 请求的范围按农历年的边界切分, 每一段用 {@link LunarDate#fromEpochDays(long, int[], int, int)}
+ * 独立转换, 只写入目标数组中互不重叠的部分, 各段之间没有共享的可变状态
+ * <p>
+ * 依赖 java.util.concurrent.ForkJoinPool, 在 Android 上需要 API 21 以上
+ */
+public final class LunarBatchConverter {
+
+    /**
+     * 每个任务至少转换的农历年数, 再小的任务调度开销会超过转换本身
+     */
+    private final static int MIN_YEARS_PER_TASK = 4;
+
+    private LunarBatchConverter() {
+    }
+
+    /**
+     * 使用共享的线程池批量公历转农历, 结果与 {@link LunarDate#fromEpochDays(long, int[], int, int)} 相同
+     *
+     * @param startEpochDay 第一天距 1970年1月1日 的天数
+     * @param dest 存放压缩的农历日期
+     * @param destPos dest 中的起始位置
+     * @param count 天数, 最后一天不能晚于2100年除夕
+     */
+    public static void fromEpochDays(long startEpochDay, int[] dest, int destPos, int count) {
+        fromEpochDays(PoolHolder.POOL, startEpochDay, dest, destPos, count);
+    }
+
+    /**
+     * 使用指定的线程池批量公历转农历, 结果与 {@link LunarDate#fromEpochDays(long, int[], int, int)} 相同
+     *
+     * @param pool 执行转换的线程池
+     * @param startEpochDay 第一天距 1970年1月1日 的天数
+     * @param dest 存放压缩的农历日期
+     * @param destPos dest 中的起始位置
+     * @param count 天数, 最后一天不能晚于2100年除夕
+     */
+    public static void fromEpochDays(ForkJoinPool pool, long startEpochDay, int[] dest, int destPos, int count) {
+        if (destPos < 0 || count < 0 || destPos > dest.length - count) {
+            throw new ArrayIndexOutOfBoundsException("destPos " + destPos + ", count " + count
+                    + ", length " + dest.length);
+        }
+        if (count == 0) {
+            return;
+        }
+        long endEpochDay = startEpochDay + count;
+        // 首尾两天所在的农历年, 同时检查范围
+        int fromYear = LunarDate.getYear(LunarDate.fromEpochDay(startEpochDay));
+        int toYear = LunarDate.getYear(LunarDate.fromEpochDay(endEpochDay - 1)) + 1;
+        pool.invoke(new ConvertTask(startEpochDay, endEpochDay, fromYear, toYear, dest, destPos));
+    }
+
+    /**
+     * 转换 [fromYear, toYear) 这些农历年与请求范围的交集
+     */
+    private static final class ConvertTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long startEpochDay;
+        private final long endEpochDay;
+        private final int fromYear;
+        private final int toYear;
+        private final int[] dest;
+        private final int destPos;
+
+        ConvertTask(long startEpochDay, long endEpochDay, int fromYear, int toYear, int[] dest, int destPos) {
+            this.startEpochDay = startEpochDay;
+            this.endEpochDay = endEpochDay;
+            this.fromYear = fromYear;
+            this.toYear = toYear;
+            this.dest = dest;
+            this.destPos = destPos;
+        }
+
+        @Override
+        protected void compute() {
+            if (toYear - fromYear <= MIN_YEARS_PER_TASK) {
+                long from = Math.max(startEpochDay, LunarDate.getYearStartEpochDay(fromYear));
+                long to = Math.min(endEpochDay, LunarDate.getYearStartEpochDay(toYear));
+                LunarDate.fromEpochDays(from, dest, destPos + (int) (from - startEpochDay), (int) (to - from));
+                return;
+            }
+            int middle = (fromYear + toYear) >>> 1;
+            invokeAll(new ConvertTask(startEpochDay, endEpochDay, fromYear, middle, dest, destPos),
+                    new ConvertTask(startEpochDay, endEpochDay, middle, toYear, dest, destPos));
+        }
+    }
+
+    /**
+     * 第一次使用时才创建共享的线程池, 线程数与处理器数相同
+     */
+    private static final class PoolHolder {
+        static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+}
@@ -0,0 +1,395 @@
+package com.limit.datepicker.datepicker.utils;
+
+/**
+ * 不可变的农历日期, 年月日及是否闰月压缩在一个 int 中
+ * <p>
+ * 压缩格式(从高位到低位): 年 | 月(1-12) | 是否闰月 | 日(1-30),
+ * 因此两个压缩值可以直接按大小比较先后. 热点代码可以只使用静态方法处理压缩值, 不产生任何对象
+ */
+public final class LunarDate implements Comparable<LunarDate> {
+
+    public final static int MIN_YEAR = 1900;
+    public final static int MAX_YEAR = 2100;
+    /**
+     * 1900年1月31日(农历1900年正月初一)距 1970年1月1日 的天数
+     */
+    public final static int BASE_EPOCH_DAY = -25537;
+
+    private final static int DAY_BITS = 5;
+    private final static int LEAP_SHIFT = DAY_BITS;
+    private final static int MONTH_SHIFT = LEAP_SHIFT + 1;
+    private final static int YEAR_SHIFT = MONTH_SHIFT + 4;
+    private final static int DAY_MASK = (1 << DAY_BITS) - 1;
+    private final static int MONTH_MASK = 0xf;
+
+    /**
+     * 每个农历年最多 13 个月, 多留一项存放全年天数
+     */
+    private final static int MONTH_SLOTS = 14;
+    /**
+     * 各农历年正月初一距 1900年1月31日 的天数, 最后一项为 2100 年结束时的天数
+     */
+    private final static int[] lunarYearOffsets = new int[MAX_YEAR - MIN_YEAR + 2];
+    /**
+     * 各农历年内每个月(闰月紧跟在所闰月份之后)初一距正月初一的天数,
+     * 每年占 MONTH_SLOTS 项, 不足的部分以全年天数补齐
+     */
+    private final static int[] lunarMonthOffsets = new int[(MAX_YEAR - MIN_YEAR + 1) * MONTH_SLOTS];
+
+    static {
+        for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+            int yearIndex = year - MIN_YEAR;
+            int base = yearIndex * MONTH_SLOTS;
+            int leapMonth = Lunar.getLunarLeapMonth(year);
+            int slot = 0;
+            int days = 0;
+            for (int month = 1; month <= 12; month++) {
+                lunarMonthOffsets[base + slot++] = days;
+                days += Lunar.getLunarMonthDays(year, month);
+                if (month == leapMonth) {
+                    lunarMonthOffsets[base + slot++] = days;
+                    days += Lunar.getLunarLeapDays(year);
+                }
+            }
+            while (slot < MONTH_SLOTS) {
+                lunarMonthOffsets[base + slot++] = days;
+            }
+            lunarYearOffsets[yearIndex + 1] = lunarYearOffsets[yearIndex] + days;
+        }
+    }
+
+    /**
+     * 批量公历转农历时接收每一天的结果
+     */
+    public interface Callback {
+        /**
+         * @param epochDay 距 1970年1月1日 的天数
+         * @param packed 压缩的农历日期
+         */
+        void onLunarDate(long epochDay, int packed);
+    }
+
+    private final int packed;
+
+    private LunarDate(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * 由压缩值构建农历日期
+     *
+     * @param packed 压缩的农历日期
+     */
+    public static LunarDate valueOf(int packed) {
+        return new LunarDate(packed);
+    }
+
+    /**
+     * 由距 1970年1月1日 的天数构建农历日期
+     *
+     * @param epochDay 距 1970年1月1日 的天数
+     */
+    public static LunarDate ofEpochDay(long epochDay) {
+        return new LunarDate(fromEpochDay(epochDay));
+    }
+
+    public int getPacked() {
+        return packed;
+    }
+
+    public int getYear() {
+        return getYear(packed);
+    }
+
+    public int getMonth() {
+        return getMonth(packed);
+    }
+
+    public boolean isLeapMonth() {
+        return isLeapMonth(packed);
+    }
+
+    public int getDay() {
+        return getDay(packed);
+    }
+
+    public long toEpochDay() {
+        return toEpochDay(packed);
+    }
+
+    @Override
+    public int compareTo(LunarDate another) {
+        return packed < another.packed ? -1 : (packed == another.packed ? 0 : 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LunarDate && ((LunarDate) o).packed == packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return packed;
+    }
+
+    @Override
+    public String toString() {
+        return getYear() + "-" + (isLeapMonth() ? "L" : "") + getMonth() + "-" + getDay();
+    }
+
+    // ------------------- Packed Helpers ---------------------
+
+    /**
+     * 压缩农历日期
+     *
+     * @param year 农历年
+     * @param month 农历月(1-12)
+     * @param isLeapMonth 是否闰月
+     * @param day 农历日(1-30)
+     * @return 压缩的农历日期
+     */
+    public static int pack(int year, int month, boolean isLeapMonth, int day) {
+        return (year << YEAR_SHIFT) | (month << MONTH_SHIFT) | ((isLeapMonth ? 1 : 0) << LEAP_SHIFT) | day;
+    }
+
+    public static int getYear(int packed) {
+        return packed >>> YEAR_SHIFT;
+    }
+
+    public static int getMonth(int packed) {
+        return (packed >>> MONTH_SHIFT) & MONTH_MASK;
+    }
+
+    public static boolean isLeapMonth(int packed) {
+        return ((packed >>> LEAP_SHIFT) & 1) != 0;
+    }
+
+    public static int getDay(int packed) {
+        return packed & DAY_MASK;
+    }
+
+    /**
+     * 去掉日部分, 用于比较两个日期是否在同一农历月
+     *
+     * @param packed 压缩的农历日期
+     * @return 压缩的农历年月
+     */
+    public static int getYearMonth(int packed) {
+        return packed & ~DAY_MASK;
+    }
+
+    /**
+     * 返回农历月在一年中的序号, 闰月也占一个序号
+     *
+     * @param packed 压缩的农历日期
+     * @return 序号(数字, 从1算起, 如闰九月的年份中闰九月为10)
+     */
+    public static int getMonthIndexWithLeap(int packed) {
+        int month = getMonth(packed);
+        int leapMonth = Lunar.getLunarLeapMonth(getYear(packed));
+        if (leapMonth > 0 && (month > leapMonth || isLeapMonth(packed))) {
+            return month + 1;
+        }
+        return month;
+    }
+
+    /**
+     * 返回所在农历月的天数
+     *
+     * @param packed 压缩的农历日期
+     * @return 天数
+     */
+    public static int getMonthDays(int packed) {
+        int yearIndex = getYear(packed) - MIN_YEAR;
+        int offset = yearIndex * MONTH_SLOTS + getMonthIndexWithLeap(packed) - 1;
+        return lunarMonthOffsets[offset + 1] - lunarMonthOffsets[offset];
+    }
+
+    /**
+     * 返回农历年的总天数
+     *
+     * @param year 农历年
+     * @return 天数
+     */
+    public static int getYearDays(int year) {
+        int yearIndex = year - MIN_YEAR;
+        return lunarYearOffsets[yearIndex + 1] - lunarYearOffsets[yearIndex];
+    }
+
+    /**
+     * 返回农历年正月初一距 1970年1月1日 的天数
+     *
+     * @param year 农历年(1900-2101), 2101 表示2100年结束后的一天
+     * @return 天数
+     */
+    public static long getYearStartEpochDay(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR + 1) {
+            throw new IllegalArgumentException("year out of range: " + year);
+        }
+        return BASE_EPOCH_DAY + lunarYearOffsets[year - MIN_YEAR];
+    }
+
+    /**
+     * 公历转农历
+     *
+     * @param epochDay 距 1970年1月1日 的天数, 范围为农历1900年正月初一至2100年除夕
+     * @return 压缩的农历日期
+     */
+    public static int fromEpochDay(long epochDay) {
+        long offset = epochDay - BASE_EPOCH_DAY;
+        if (offset < 0 || offset >= lunarYearOffsets[MAX_YEAR - MIN_YEAR + 1]) {
+            throw new IllegalArgumentException("epoch day out of range: " + epochDay);
+        }
+        // 在年表中二分查找所在农历年份
+        int yearIndex = floorIndex(lunarYearOffsets, 0, MAX_YEAR - MIN_YEAR + 1, offset);
+        int year = MIN_YEAR + yearIndex;
+        offset -= lunarYearOffsets[yearIndex];
+
+        // 在月表中查找所在农历月份(含闰月)
+        int leapMonth = Lunar.getLunarLeapMonth(year);
+        int base = yearIndex * MONTH_SLOTS;
+        int slot = floorIndex(lunarMonthOffsets, base, base + (leapMonth > 0 ? 13 : 12), offset) - base;
+        boolean isLeapMonth = leapMonth > 0 && slot == leapMonth;
+        int month = leapMonth > 0 && slot >= leapMonth ? slot : slot + 1;
+        int day = (int) (offset - lunarMonthOffsets[base + slot]) + 1;
+        return pack(year, month, isLeapMonth, day);
+    }
+
+    /**
+     * 批量公历转农历, 只为第一天查表, 之后逐月推进, 不产生任何对象
+     *
+     * @param startEpochDay 第一天距 1970年1月1日 的天数
+     * @param dest 存放压缩的农历日期
+     * @param destPos dest 中的起始位置
+     * @param count 天数, 最后一天不能晚于2100年除夕
+     */
+    public static void fromEpochDays(long startEpochDay, int[] dest, int destPos, int count) {
+        if (destPos < 0 || count < 0 || destPos > dest.length - count) {
+            throw new ArrayIndexOutOfBoundsException("destPos " + destPos + ", count " + count
+                    + ", length " + dest.length);
+        }
+        checkEpochDays(startEpochDay, count);
+        if (count == 0) {
+            return;
+        }
+        int packed = fromEpochDay(startEpochDay);
+        int pos = destPos;
+        int end = destPos + count;
+        while (true) {
+            int yearMonth = getYearMonth(packed);
+            int day = getDay(packed);
+            int lastDay = Math.min(getMonthDays(packed), day + end - pos - 1);
+            for (; day <= lastDay; day++) {
+                dest[pos++] = yearMonth | day;
+            }
+            if (pos == end) {
+                return;
+            }
+            packed = nextMonth(packed);
+        }
+    }
+
+    /**
+     * 批量公历转农历, 与 {@link #fromEpochDays(long, int[], int, int)} 相同, 但把每一天交给回调
+     *
+     * @param startEpochDay 第一天距 1970年1月1日 的天数
+     * @param count 天数, 最后一天不能晚于2100年除夕
+     * @param callback 按日期先后接收每一天
+     */
+    public static void forEachEpochDay(long startEpochDay, int count, Callback callback) {
+        checkEpochDays(startEpochDay, count);
+        if (count == 0) {
+            return;
+        }
+        int packed = fromEpochDay(startEpochDay);
+        long epochDay = startEpochDay;
+        long end = startEpochDay + count;
+        while (true) {
+            int yearMonth = getYearMonth(packed);
+            int day = getDay(packed);
+            int lastDay = (int) Math.min(getMonthDays(packed), day + end - epochDay - 1);
+            for (; day <= lastDay; day++) {
+                callback.onLunarDate(epochDay++, yearMonth | day);
+            }
+            if (epochDay == end) {
+                return;
+            }
+            packed = nextMonth(packed);
+        }
+    }
+
+    /**
+     * 返回下一个农历月的初一, 闰月紧跟在所闰月份之后
+     *
+     * @param packed 压缩的农历日期
+     * @return 压缩的农历日期
+     */
+    private static int nextMonth(int packed) {
+        int year = getYear(packed);
+        int month = getMonth(packed);
+        if (!isLeapMonth(packed) && month == Lunar.getLunarLeapMonth(year)) {
+            return pack(year, month, true, 1);
+        }
+        return month == 12 ? pack(year + 1, 1, false, 1) : pack(year, month + 1, false, 1);
+    }
+
+    private static void checkEpochDays(long startEpochDay, int count) {
+        long offset = startEpochDay - BASE_EPOCH_DAY;
+        if (count < 0 || offset < 0 || offset + count > lunarYearOffsets[MAX_YEAR - MIN_YEAR + 1]) {
+            throw new IllegalArgumentException("epoch days out of range: " + startEpochDay + ", count " + count);
+        }
+    }
+
+    /**
+     * 农历转公历
+     *
+     * @param packed 压缩的农历日期
+     * @return 距 1970年1月1日 的天数
+     */
+    public static long toEpochDay(int packed) {
+        return toEpochDay(getYear(packed), getMonth(packed), isLeapMonth(packed), getDay(packed));
+    }
+
+    /**
+     * 农历转公历
+     *
+     * @param year 农历年(1900-2100)
+     * @param month 农历月(1-12)
+     * @param isLeapMonth 是否闰月, 该月不是闰月时忽略
+     * @param day 农历日(1-30)
+     * @return 距 1970年1月1日 的天数
+     */
+    public static long toEpochDay(int year, int month, boolean isLeapMonth, int day) {
+        if (year > MAX_YEAR || year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > 30) {
+            throw new IllegalArgumentException();
+        }
+        int yearIndex = year - MIN_YEAR;
+        // 月表中闰月紧跟在所闰月份之后, 闰月及其后的月份要后移一项
+        int leapMonth = Lunar.getLunarLeapMonth(year);
+        int slot = month - 1;
+        if (leapMonth > 0 && (month > leapMonth || (isLeapMonth && month == leapMonth))) {
+            slot++;
+        }
+        return BASE_EPOCH_DAY + lunarYearOffsets[yearIndex]
+                + lunarMonthOffsets[yearIndex * MONTH_SLOTS + slot] + day - 1;
+    }
+
+    /**
+     * 在升序数组的 [fromIndex, toIndex) 区间中查找最后一个不大于 key 的位置
+     *
+     * @return 位置(数字), 若 key 小于所有元素返回 fromIndex
+     */
+    private static int floorIndex(int[] offsets, int fromIndex, int toIndex, long key) {
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= key) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
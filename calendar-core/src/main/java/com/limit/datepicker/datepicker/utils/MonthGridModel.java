@@ -0,0 +1,323 @@
+package com.limit.datepicker.datepicker.utils;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * 月历网格模型, 一次生成某个公历月 6 行 7 列共 42 格的公历, 农历, 节气和节日
+ * <p>
+ * 农历由 {@link LunarDate#fromEpochDays(long, int[], int, int)} 逐日推进, 节气每月只在节气表中查找一次,
+ * 节日直接按月日查 {@link FestivalRegistry} 的索引, 不为每一格构建 {@link Lunar}.
+ * 格子对象在各次 {@link #setMonth(int, int)} 之间复用, 只在下一次更新前有效, 不能在多个线程之间共享
+ */
+public final class MonthGridModel {
+
+    public final static int ROWS = 6;
+    public final static int COLUMNS = 7;
+    public final static int CELL_COUNT = ROWS * COLUMNS;
+
+    public final static int MIN_YEAR = 1901;
+    public final static int MAX_YEAR = 2100;
+
+    private final static long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private final int firstDayOfWeek;
+    private final Cell[] cells = new Cell[CELL_COUNT];
+    private final int[] lunarDates = new int[CELL_COUNT];
+    /**
+     * 按 {@link Lunar} 的规则计算月周节日的第几周
+     */
+    private final Calendar weekCalendar = Calendar.getInstance();
+    private int year;
+    private int month;
+
+    /**
+     * 以星期日为每行的第一天
+     */
+    public MonthGridModel() {
+        this(Calendar.SUNDAY);
+    }
+
+    /**
+     * @param firstDayOfWeek 每行的第一天, Calendar.SUNDAY 至 Calendar.SATURDAY
+     */
+    public MonthGridModel(int firstDayOfWeek) {
+        if (firstDayOfWeek < Calendar.SUNDAY || firstDayOfWeek > Calendar.SATURDAY) {
+            throw new IllegalArgumentException("firstDayOfWeek: " + firstDayOfWeek);
+        }
+        this.firstDayOfWeek = firstDayOfWeek;
+        for (int i = 0; i < CELL_COUNT; i++) {
+            cells[i] = new Cell();
+        }
+        if (Lunar.DEFAULT_FIRST_DAY_OF_WEEK >= 0) {
+            weekCalendar.setFirstDayOfWeek(Lunar.DEFAULT_FIRST_DAY_OF_WEEK);
+        }
+    }
+
+    /**
+     * 生成指定公历月的网格, 第一行从该月1日所在的一周开始
+     *
+     * @param year 公历年(1901-2100)
+     * @param month 公历月(1-12)
+     * @return 42 个格子, 与 {@link #getCells()} 是同一个数组
+     */
+    public Cell[] setMonth(int year, int month) {
+        if (year < MIN_YEAR || year > MAX_YEAR || month < 1 || month > 12) {
+            throw new IllegalArgumentException("month out of range: " + year + "-" + month);
+        }
+        this.year = year;
+        this.month = month;
+
+        long firstDay = SolarDate.toEpochDay(year, month, 1);
+        int dayOfWeek = SolarDate.getDayOfWeek(firstDay);
+        long start = firstDay - SolarDate.floorMod(dayOfWeek - (firstDayOfWeek - 1), 7);
+        dayOfWeek = SolarDate.getDayOfWeek(start);
+        LunarDate.fromEpochDays(start, lunarDates, 0, CELL_COUNT);
+
+        // 网格范围内的节气是节气表中连续的一段
+        int term = Lunar.ceilingSolarTerm(start);
+        int termEnd = Lunar.ceilingSolarTerm(start + CELL_COUNT);
+        long termDay = term < termEnd ? Lunar.getSolarTermEpochDay(term) : Long.MAX_VALUE;
+
+        FestivalRegistry.Snapshot snapshot = FestivalRegistry.getSnapshot();
+        int solar = SolarDate.fromEpochDay(start);
+        int solarYear = SolarDate.getYear(solar);
+        int solarMonth = SolarDate.getMonth(solar);
+        int solarDay = SolarDate.getDay(solar);
+        int monthDays = getMonthDays(solarYear, solarMonth);
+        int weekOffset = getWeekOffset(solarYear, solarMonth);
+
+        for (int i = 0; i < CELL_COUNT; i++) {
+            Cell cell = cells[i];
+            long epochDay = start + i;
+            cell.epochDay = epochDay;
+            cell.solarYear = solarYear;
+            cell.solarMonth = solarMonth;
+            cell.solarDay = solarDay;
+            cell.dayOfWeek = dayOfWeek;
+            cell.inMonth = solarMonth == month;
+            cell.lunarDate = lunarDates[i];
+            if (epochDay == termDay) {
+                cell.termString = Lunar.getSolarTermName(term);
+                term++;
+                termDay = term < termEnd ? Lunar.getSolarTermEpochDay(term) : Long.MAX_VALUE;
+            } else {
+                cell.termString = null;
+            }
+            cell.setFestivals(snapshot, (weekOffset + solarDay - 1) / 7);
+
+            dayOfWeek = dayOfWeek == 6 ? 0 : dayOfWeek + 1;
+            if (++solarDay > monthDays) {
+                solarDay = 1;
+                if (++solarMonth > 12) {
+                    solarMonth = 1;
+                    solarYear++;
+                }
+                monthDays = getMonthDays(solarYear, solarMonth);
+                weekOffset = getWeekOffset(solarYear, solarMonth);
+            }
+        }
+        return cells;
+    }
+
+    public Cell[] getCells() {
+        return cells;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getFirstDayOfWeek() {
+        return firstDayOfWeek;
+    }
+
+    private static int getMonthDays(int year, int month) {
+        long next = month == 12 ? SolarDate.toEpochDay(year + 1, 1, 1) : SolarDate.toEpochDay(year, month + 1, 1);
+        return (int) (next - SolarDate.toEpochDay(year, month, 1));
+    }
+
+    /**
+     * 使 (返回值 + 日 - 1) / 7 等于 Calendar.WEEK_OF_MONTH, 每月只读一次 Calendar
+     */
+    private int getWeekOffset(int year, int month) {
+        Calendar calendar = weekCalendar;
+        calendar.clear();
+        calendar.set(year, month - 1, 1);
+        int firstWeek = calendar.get(Calendar.WEEK_OF_MONTH);
+        // 1日在它所在的一周中是第几天(从0算起)
+        int position = (int) SolarDate.floorMod(calendar.get(Calendar.DAY_OF_WEEK) - calendar.getFirstDayOfWeek(), 7);
+        return firstWeek * 7 + position;
+    }
+
+    /**
+     * 网格中的一格, 各个 getter 与 {@link Lunar} 中同名的方法含义相同
+     */
+    public final static class Cell {
+        private long epochDay;
+        private int solarYear;
+        private int solarMonth;
+        private int solarDay;
+        private int dayOfWeek;
+        private boolean inMonth;
+        private int lunarDate;
+        private String termString;
+        private boolean isSFestival;
+        private boolean isLFestival;
+        private String sFestivalName;
+        private String lFestivalName;
+        private int workState;
+
+        private Cell() {
+        }
+
+        /**
+         * 与 Lunar 查找节日的规则相同: 公历节日, 农历节日, 月周节日, 后找到的放假状态优先
+         */
+        private void setFestivals(FestivalRegistry.Snapshot snapshot, int weekOfMonth) {
+            boolean isSFestival = false;
+            boolean isLFestival = false;
+            String sFestivalName = "";
+            String lFestivalName = "";
+            int workState = Lunar.WORK_STATE_WORK_DEFAULT;
+            FestivalRegistry.Festival festival = snapshot.getSolarFestival(solarMonth, solarDay);
+            if (festival != null) {
+                sFestivalName = festival.getName();
+                isSFestival = festival.isNamed();
+                if (festival.getWorkState() != Lunar.WORK_STATE_WORK_DEFAULT) {
+                    workState = festival.getWorkState();
+                }
+            }
+            festival = snapshot.getLunarFestival(LunarDate.getMonth(lunarDate), LunarDate.getDay(lunarDate));
+            if (festival != null) {
+                lFestivalName = festival.getName();
+                isLFestival = festival.isNamed();
+                if (festival.getWorkState() != Lunar.WORK_STATE_WORK_DEFAULT) {
+                    workState = festival.getWorkState();
+                }
+            }
+            festival = snapshot.getWeekFestival(solarMonth, weekOfMonth, dayOfWeek);
+            if (festival != null) {
+                isSFestival = isSFestival || festival.isNamed();
+                sFestivalName = sFestivalName.length() == 0 ? festival.getName() : sFestivalName + "|" + festival.getName();
+                if (festival.getWorkState() != Lunar.WORK_STATE_WORK_DEFAULT) {
+                    workState = festival.getWorkState();
+                }
+            }
+            this.isSFestival = isSFestival;
+            this.isLFestival = isLFestival;
+            this.sFestivalName = sFestivalName;
+            this.lFestivalName = lFestivalName;
+            this.workState = workState;
+        }
+
+        /**
+         * @return 距 1970年1月1日 的天数
+         */
+        public long getEpochDay() {
+            return epochDay;
+        }
+
+        /**
+         * @return 当天零点(默认时区)的时间戳
+         */
+        public long getTimeInMillis() {
+            return CalendarDateUtils.getUtcMills(epochDay * MILLIS_PER_DAY, TimeZone.getDefault());
+        }
+
+        public int getSolarYear() {
+            return solarYear;
+        }
+
+        /**
+         * @return 公历月份 (不是从0算起)
+         */
+        public int getSolarMonth() {
+            return solarMonth;
+        }
+
+        public int getSolarDay() {
+            return solarDay;
+        }
+
+        /**
+         * @return 星期几(0为星期日)
+         */
+        public int getDayOfWeek() {
+            return dayOfWeek;
+        }
+
+        /**
+         * @return 是否属于网格所表示的月份
+         */
+        public boolean isInMonth() {
+            return inMonth;
+        }
+
+        /**
+         * @return 压缩的农历日期, 见 {@link LunarDate}
+         */
+        public int getLunarDate() {
+            return lunarDate;
+        }
+
+        public String getLunarDayString() {
+            return Lunar.getLunarDayString(LunarDate.getDay(lunarDate));
+        }
+
+        public String getLunarMonthString() {
+            return Lunar.getLunarMonthString(LunarDate.getMonth(lunarDate), LunarDate.isLeapMonth(lunarDate));
+        }
+
+        /**
+         * @return 节气名称, 若不是节气日返回 null
+         */
+        public String getTermString() {
+            return termString;
+        }
+
+        public boolean isSFestival() {
+            return isSFestival;
+        }
+
+        public boolean isLFestival() {
+            return isLFestival;
+        }
+
+        public boolean isFestival() {
+            return isSFestival || isLFestival;
+        }
+
+        public String getSFestivalName() {
+            return sFestivalName;
+        }
+
+        public String getLFestivalName() {
+            return lFestivalName;
+        }
+
+        public int getWorkState() {
+            return workState;
+        }
+
+        /**
+         * @return 格子下方显示的文字: 节日, 节气, 农历日, 初一时为农历月
+         */
+        public String getDisplayLunarString() {
+            if (isSFestival) {
+                return sFestivalName;
+            }
+            if (isLFestival) {
+                return lFestivalName;
+            }
+            if (termString != null && termString.length() > 0) {
+                return termString;
+            }
+            return LunarDate.getDay(lunarDate) == 1 ? getLunarMonthString() : getLunarDayString();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.limit.datepicker.datepicker.utils;
+
+/**
+ * 公历日期与距 1970年1月1日 天数之间的换算, 纯整数运算, 不使用 Calendar, 也不需要加锁
+ * <p>
+ * 日期按公历(格里历)规则外推, 年月日可以压缩在一个 int 中, 压缩格式(从高位到低位): 年 | 月(1-12) | 日(1-31),
+ * 两个压缩值可以直接按大小比较先后
+ */
+public final class SolarDate {
+
+    private final static int DAY_BITS = 5;
+    private final static int MONTH_SHIFT = DAY_BITS;
+    private final static int YEAR_SHIFT = MONTH_SHIFT + 4;
+    private final static int DAY_MASK = (1 << DAY_BITS) - 1;
+    private final static int MONTH_MASK = 0xf;
+
+    /**
+     * 0000年3月1日距 1970年1月1日 的天数
+     */
+    private final static int DAYS_0000_TO_1970 = 719468;
+    /**
+     * 每400年的天数
+     */
+    private final static int DAYS_PER_ERA = 146097;
+
+    private SolarDate() {
+    }
+
+    /**
+     * 压缩公历日期
+     *
+     * @param year 公历年(正数)
+     * @param month 公历月(1-12)
+     * @param day 公历日(1-31)
+     * @return 压缩的公历日期
+     */
+    public static int pack(int year, int month, int day) {
+        return (year << YEAR_SHIFT) | (month << MONTH_SHIFT) | day;
+    }
+
+    public static int getYear(int packed) {
+        return packed >>> YEAR_SHIFT;
+    }
+
+    public static int getMonth(int packed) {
+        return (packed >>> MONTH_SHIFT) & MONTH_MASK;
+    }
+
+    public static int getDay(int packed) {
+        return packed & DAY_MASK;
+    }
+
+    /**
+     * 公历日期转为距 1970年1月1日 的天数
+     *
+     * @param packed 压缩的公历日期
+     * @return 天数
+     */
+    public static long toEpochDay(int packed) {
+        return toEpochDay(getYear(packed), getMonth(packed), getDay(packed));
+    }
+
+    /**
+     * 公历日期转为距 1970年1月1日 的天数
+     *
+     * @param year 公历年
+     * @param month 公历月(1-12)
+     * @param day 公历日, 超出当月天数时顺延
+     * @return 天数
+     */
+    public static long toEpochDay(int year, int month, int day) {
+        // 以3月为一年的开始, 闰日落在年末
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * ((month + 9) % 12) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return (long) era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * 距 1970年1月1日 的天数转为公历日期
+     *
+     * @param epochDay 天数
+     * @return 压缩的公历日期
+     */
+    public static int fromEpochDay(long epochDay) {
+        long days = epochDay + DAYS_0000_TO_1970;
+        long era = (days >= 0 ? days : days - DAYS_PER_ERA + 1) / DAYS_PER_ERA;
+        int dayOfEra = (int) (days - era * DAYS_PER_ERA);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_ERA - 1)) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int monthIndex = (5 * dayOfYear + 2) / 153; // 0为3月
+        int day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+        int month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+        int year = (int) (era * 400) + yearOfEra + (month <= 2 ? 1 : 0);
+        return pack(year, month, day);
+    }
+
+    /**
+     * 返回星期几
+     *
+     * @param epochDay 距 1970年1月1日 的天数
+     * @return 星期几(0为星期日)
+     */
+    public static int getDayOfWeek(long epochDay) {
+        // 1970年1月1日是星期四
+        return (int) floorMod(epochDay + 4, 7);
+    }
+
+    /**
+     * 向下取整的除法, 用于把时间戳换算为天数
+     */
+    public static long floorDiv(long x, long y) {
+        long q = x / y;
+        return (x % y != 0 && ((x ^ y) < 0)) ? q - 1 : q;
+    }
+
+    public static long floorMod(long x, long y) {
+        return x - floorDiv(x, y) * y;
+    }
+}
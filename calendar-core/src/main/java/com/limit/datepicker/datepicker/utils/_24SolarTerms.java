@@ -0,0 +1,477 @@
+package com.limit.datepicker.datepicker.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author:518ad-ccn date:Dec 13, 2011
+ * describe：24节气
+ * 注：程序中使用到的计算节气公式、节气世纪常量等相关信息参照http://www.360doc.com/content/11/0106/22/5281066_84591519.shtml，
+ * 程序的运行得出的节气结果绝大多数是正确的，有少数部份是有误差的
+ */
+public class _24SolarTerms {
+    private static final double D = 0.2422;
+    private final static Map<SolarTermsEnum, Integer[]> INCREASE_OFFSET_MAP = new HashMap();//+1偏移
+    private final static Map<SolarTermsEnum, Integer[]> DECREASE_OFFSET_MAP = new HashMap();//-1偏移
+
+    /**
+     * 24节气
+     **/
+    public enum SolarTermsEnum {
+        LICHUN,//--立春
+        YUSHUI,//--雨水
+        JINGZHE,//--惊蛰
+        CHUNFEN,//春分
+        QINGMING,//清明
+        GUYU,//谷雨
+        LIXIA,//立夏
+        XIAOMAN,//小满
+        MANGZHONG,//芒种
+        XIAZHI,//夏至
+        XIAOSHU,//小暑
+        DASHU,//大暑
+        LIQIU,//立秋
+        CHUSHU,//处暑
+        BAILU,//白露
+        QIUFEN,//秋分
+        HANLU,//寒露
+        SHUANGJIANG,//霜降
+        LIDONG,//立冬
+        XIAOXUE,//小雪
+        DAXUE,//大雪
+        DONGZHI,//冬至
+        XIAOHAN,//小寒
+        DAHAN;//大寒
+
+        public final static String[] solarTerm = {
+                "立春", "雨水", "惊蛰", "春分", "清明", "谷雨",
+                "立夏", "小满", "芒种", "夏至", "小暑", "大暑",
+                "立秋", "处暑", "白露", "秋分", "寒露", "霜降",
+                "立冬", "小雪", "大雪", "冬至", "小寒", "大寒"
+        };
+
+        public String getName(){
+            return solarTerm[ordinal()];
+        }
+    }
+
+    static {
+        DECREASE_OFFSET_MAP.put(SolarTermsEnum.YUSHUI, new Integer[]{2026});//雨水
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.CHUNFEN, new Integer[]{2084});//春分
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.XIAOMAN, new Integer[]{2008});//小满
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.MANGZHONG, new Integer[]{1902});//芒种
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.XIAZHI, new Integer[]{1928});//夏至
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.XIAOSHU, new Integer[]{1925, 2016});//小暑
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.DASHU, new Integer[]{1922});//大暑
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.LIQIU, new Integer[]{2002});//立秋
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.BAILU, new Integer[]{1927});//白露
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.QIUFEN, new Integer[]{1942});//秋分
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.SHUANGJIANG, new Integer[]{2089});//霜降
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.LIDONG, new Integer[]{2089});//立冬
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.XIAOXUE, new Integer[]{1978});//小雪
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.DAXUE, new Integer[]{1954});//大雪
+        DECREASE_OFFSET_MAP.put(SolarTermsEnum.DONGZHI, new Integer[]{1918, 2021});//冬至
+
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.XIAOHAN, new Integer[]{1982});//小寒
+        DECREASE_OFFSET_MAP.put(SolarTermsEnum.XIAOHAN, new Integer[]{2019});//小寒
+
+        INCREASE_OFFSET_MAP.put(SolarTermsEnum.DAHAN, new Integer[]{2082});//大寒
+    }
+
+    //定义一个二维数组，第一维数组存储的是20世纪的节气C值，第二维数组存储的是21世纪的节气C值,0到23个，依次代表立春、雨水...大寒节气的C值
+    private static final double[][] CENTURY_ARRAY =
+            {{4.6295, 19.4599, 6.3826, 21.4155, 5.59, 20.888, 6.318, 21.86, 6.5, 22.2, 7.928, 23.65, 8.35,
+                    23.95, 8.44, 23.822, 9.098, 24.218, 8.218, 23.08, 7.9, 22.6, 6.11, 20.84}
+                    , {3.87, 18.73, 5.63, 20.646, 4.81, 20.1, 5.52, 21.04, 5.678, 21.37, 7.108, 22.83,
+                    7.5, 23.13, 7.646, 23.042, 8.318, 23.438, 7.438, 22.36, 7.18, 21.94, 5.4055, 20.12}};
+
+    private final static int MIN_YEAR = 1901;
+    private final static int MAX_YEAR = 2100;
+    private final static int TERM_COUNT = 24;
+
+    /**
+     * 1901年到2100年的节气表, 每年一行, 按 SolarTermsEnum 的顺序每个字符表示一个节气是相应月份的第几天(字符 - 'A'),
+     * 由 {@link #generateTable()} 根据公式及特殊年份偏移量生成, 修改公式或偏移量后需要重新生成
+     */
+    final static String[] TERM_TABLE = {
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1901
+            "FTGVGVGWHWIYIYIYJYIXIXGV", // 1902
+            "FUHWGVHWHWIYJYJYJYIXIXGV", // 1903
+            "FUGVFUGVGWHXIXIXJYIXHWGV", // 1904
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1905
+            "FTGVGVGWGWIYIYIYJYIXIXGV", // 1906
+            "FUHWGVHWHWIYJYJYJYIXIXGV", // 1907
+            "FUGVFUGVGWHXIXIXJYIXHWGV", // 1908
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1909
+            "FTGVGVGWGWIYIYIYJYIXIXGV", // 1910
+            "FUHWGVGWHWIYJYJYJYIXIXGV", // 1911
+            "FUGVFUGVGWHXIXIXJYIWHWGV", // 1912
+            "ETGVFVGWGWIXIYIXJYIXIWGU", // 1913
+            "FTGVFVGWGWIYIYIYJYIXIWGV", // 1914
+            "FUHWGVGWHWIYIYJYJYIXIXGV", // 1915
+            "FUGVFUGVGWHXIXIXIYIWHWGV", // 1916
+            "ETGVFVGVGWIXIYIXJYIXIWGU", // 1917
+            "ETGVFVGWGWIYIYIYJYIXIVGV", // 1918
+            "FUGWGVGWHWIYIYJYJYIXIXGV", // 1919
+            "FUGVFUGVGWHXIXIXIYIWHWGV", // 1920
+            "ETGVFUGVGWIXIYIXJYIXHWGU", // 1921
+            "ETGVFVGWGWIYIYIYJYIXIWGV", // 1922
+            "FUGVGVGWHWIYIYJYJYIXIXGV", // 1923
+            "FUGVFUGVGWHXIXIXIYIWHWGV", // 1924
+            "ETGVFUGVGWIXIYIXJYIXHWGU", // 1925
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1926
+            "FTGVGVGWHWIYIYJYJYIXIXGV", // 1927
+            "FTGVFUGVGWHXIXIXIXHWHWGV", // 1928
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1929
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1930
+            "FTGVGVGWHWIYIYIYJYIXIXGV", // 1931
+            "FTGVFUGVGVHXIXIXIXHWHWGV", // 1932
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1933
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1934
+            "FTGVGVGWGWIYIYIYJYIXIXGV", // 1935
+            "FTGVFUGVGVHXIXIXIXHWHWGV", // 1936
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1937
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1938
+            "FTGVGVGWGWIYIYIYJYIXIXGV", // 1939
+            "FTGVFUGVGVHXIXIXIXHWHWGV", // 1940
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1941
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1942
+            "FTGVGVGWGWIYIYIYJYIXIXGV", // 1943
+            "FTGVFUFVGVHXIXIXIXHWHWGV", // 1944
+            "ETGVFUGVGWHXIXIXIYIWHWGU", // 1945
+            "ETGVFVGWGWIXIYIXJYIXIWGU", // 1946
+            "FTGVFVGWGWIYIYIYJYIXIWGV", // 1947
+            "FTGVFUFVGVHXHXIXIXHWHWGV", // 1948
+            "ETGVFUGVGWHXIXIXIYIWHWFU", // 1949
+            "ETGVFUGVGWIXIYIXJYIXIWGU", // 1950
+            "ETGVFVGWGWIYIYIYJYIXIWGV", // 1951
+            "ETFVFUFVGVHXHXIXIXHWHWGV", // 1952
+            "ETGVFUGVGWHXIXIXIYIWHWFU", // 1953
+            "ETGVFUGVGWIXIYIXJYIXIWGU", // 1954
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1955
+            "ETFUFUFVGVHXHXIXIXHWHWGV", // 1956
+            "ETGVFUGVGWHXIXIXIYIWHWFU", // 1957
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1958
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1959
+            "ETFUFUFVGVHXHXHXIXHWHWGV", // 1960
+            "ETGVFUGVGVHXIXIXIXHWHWFU", // 1961
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1962
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1963
+            "ETFUFUFVGVHXHXHXIXHWHWGV", // 1964
+            "ETGVFUGVGVHXIXIXIXHWHWFU", // 1965
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1966
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1967
+            "ETFUFUFVFVHXHXHXIXHWHWGV", // 1968
+            "ETGVFUGVGVHXIXIXIXHWHWFU", // 1969
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1970
+            "ETGVFVGWGWIXIYIYJYIXIWGV", // 1971
+            "ETFUFUFVFVHXHXHXIXHWHWGV", // 1972
+            "ETGVFUFVGVHXIXIXIXHWHWFU", // 1973
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1974
+            "ETGVFVGWGWIXIYIXJYIXIWGV", // 1975
+            "ETFUEUFVFVHXHXHXIXHWHWGV", // 1976
+            "ETGVFUFVGVHXHXIXIXHWHWFU", // 1977
+            "ETGVFUGVGWHXIXIXIYIXHWGU", // 1978
+            "ETGVFVGVGWIXIYIXJYIXIWGU", // 1979
+            "ETFUEUFVFVHXHXHXIXHWHVGU", // 1980
+            "ETGVFUFVGVHXHXIXIXHWHWFU", // 1981
+            "ETGVFUGVGWHXIXIXIYIWHWGU", // 1982
+            "ETGVFUGVGWIXIYIXJYIXIWGU", // 1983
+            "ETFUEUFVFVHWHXHXIXHWHVGU", // 1984
+            "ETFVFUFVGVHXHXIXIXHWHWFU", // 1985
+            "ETGVFUGVGWHXIXIXIYIWHWFU", // 1986
+            "ETGVFUGVGWHXIYIXJYIXHWGU", // 1987
+            "ETFUEUFVFVHWHXHXIXHWHVGU", // 1988
+            "ETFUFUFVGVHXHXHXIXHWHWFU", // 1989
+            "ETGVFUGVGVHXIXIXIYIWHWFU", // 1990
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1991
+            "ETFUEUFVFVHWHXHXIXHWHVGU", // 1992
+            "ESFUFUFVGVHXHXHXIXHWHWFU", // 1993
+            "ETGVFUGVGVHXIXIXIXHWHWFU", // 1994
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1995
+            "ETFUEUFVFVHWHXHXIXHWHVGU", // 1996
+            "ESFUFUFVFVHXHXHXIXHWHWFU", // 1997
+            "ETGVFUGVGVHXIXIXIXHWHWFU", // 1998
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 1999
+            "ETGVFUGVGWHXIXIXJYIXHWFU", // 2000
+            "ESFUFUFVFVHXHXHXIXHWHWFU", // 2001
+            "ETGVFUGVGVHXIXIXIXHWHWFU", // 2002
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 2003
+            "ETFUEUFVFVHWHXHXIXHWHVGU", // 2004
+            "ESFUFUFVFVHXHXHXIXHWHWFU", // 2005
+            "ETGVFUFVGVHXHXIXIXHWHWFU", // 2006
+            "ETGVFUGVGWHXIXIXJYIXHWGU", // 2007
+            "ETFUEUFVFVHWHXHWIXHWHVGU", // 2008
+            "ESFUEUFVFVHXHXHXIXHWHWFU", // 2009
+            "ETGVFUFVGVHXHXIXIXHWHWFU", // 2010
+            "ETGVFUGVGWHXIXIXIYIXHWGU", // 2011
+            "ETFUEUFUFVHWHXHWIXHWHVGU", // 2012
+            "ESFUEUFVFVHWHXHXIXHWHWFU", // 2013
+            "ETGVFUFVGVHXHXIXIXHWHWFU", // 2014
+            "ETGVFUGVGWHXIXIXIYIWHWGU", // 2015
+            "ETFUETFUFVHWHXHWIXHWHVGU", // 2016
+            "DSFUEUFVFVHWHXHXIXHWHWFU", // 2017
+            "ETFVFUFVGVHXHXIXIXHWHWFU", // 2018
+            "ETGVFUGVGVHXIXIXIYIWHWFU", // 2019
+            "ETFUETFUFVGWHWHWIXHWHVGU", // 2020
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2021
+            "ETFUFUFVGVHXHXHXIXHWHWFU", // 2022
+            "ETGVFUGVGVHXIXIXIYIWHWFU", // 2023
+            "ETFUETFUFVGWHWHWIXHWGVFU", // 2024
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2025
+            "ESFUFUFVFVHXHXHXIXHWHWFU", // 2026
+            "ETGVFUGVGVHXIXIXIXHWHWFU", // 2027
+            "ETFUETFUFVGWHWHWIXHWGVFU", // 2028
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2029
+            "ESFUFUFVFVHXHXHXIXHWHWFU", // 2030
+            "ETGVFUGVGVHXIXIXIXHWHWFU", // 2031
+            "ETFUETFUFVGWHWHWIXHWGVFU", // 2032
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2033
+            "ESFUFUFVFVHXHXHXIXHWHWFU", // 2034
+            "ETGVFUFVGVHXHXIXIXHWHWFU", // 2035
+            "ETFUETFUFVGWHWHWIXHWGVFU", // 2036
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2037
+            "ESFUFUFVFVHXHXHXIXHWHWFU", // 2038
+            "ETGVFUFVGVHXHXIXIXHWHWFU", // 2039
+            "ETFUETFUFVGWHWHWIXHWGVFU", // 2040
+            "DSFUEUFUFVHWHXHWIXHWHVFU", // 2041
+            "ESFUEUFVFVHXHXHXIXHWHWFU", // 2042
+            "ETGVFUFVGVHXHXIXIXHWHWFU", // 2043
+            "ETFUETFUFVGWHWHWHXHWGVFU", // 2044
+            "DSFUETFUFVHWHXHWIXHWHVFU", // 2045
+            "ESFUEUFVFVHWHXHXIXHWHWFU", // 2046
+            "ETGVFUFVGVHXHXIXIXHWHWFU", // 2047
+            "ETFUETFUFUGWHWHWHXHVGVFU", // 2048
+            "DSFUETFUFVGWHWHWIXHWHVFT", // 2049
+            "DSFUEUFVFVHWHXHXIXHWHWFU", // 2050
+            "ETFUFUFVGVHXHXHXIXHWHWFU", // 2051
+            "ETFUETFUFUGWHWHWHXHVGVFU", // 2052
+            "DSFUETFUFVGWHWHWIXHWHVFT", // 2053
+            "DSFUEUFVFVHWHXHXIXHWHWFU", // 2054
+            "ETFUFUFVFVHXHXHXIXHWHWFU", // 2055
+            "ETFUETFUFUGWHWHWHXHVGVFU", // 2056
+            "DSFUETFUFVGWHWHWIXHWGVFT", // 2057
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2058
+            "ETFUFUFVFVHXHXHXIXHWHWFU", // 2059
+            "ETFUETFUFUGWHWHWHWGVGVFU", // 2060
+            "DSFUETFUFVGWHWHWIXHWGVFT", // 2061
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2062
+            "ESFUFUFVFVHXHXHXIXHWHWFU", // 2063
+            "ESFUETFUFUGWHWHWHWGVGVFU", // 2064
+            "DSFUETFUFVGWHWHWIXHWGVFT", // 2065
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2066
+            "ESFUFUFVFVHXHXHXIXHWHWFU", // 2067
+            "ESFUETEUFUGWGWHWHWGVGVFU", // 2068
+            "DSFUETFUFVGWHWHWIXHWGVFT", // 2069
+            "DSFUEUFUFVHWHXHWIXHWHVFU", // 2070
+            "ESFUFUFVFVHXHXHXIXHWHWFU", // 2071
+            "ESFUETEUFUGWGWHWHWGVGVFU", // 2072
+            "DSFUETFUFVGWHWHWHXHWGVFT", // 2073
+            "DSFUEUFUFVHWHXHWIXHWHVFU", // 2074
+            "ESFUEUFVFVHWHXHXIXHWHWFU", // 2075
+            "ESFUETEUFUGWGWHWHWGVGVFU", // 2076
+            "DSFUETFUFVGWHWHWHXHWGVFT", // 2077
+            "DSFUETFUFVGWHXHWIXHWHVFU", // 2078
+            "ESFUEUFVFVHWHXHXIXHWHWFU", // 2079
+            "ESFUETEUFUGWGWHWHWGVGVFU", // 2080
+            "DSFUETFUFUGWHWHWHXHVGVFT", // 2081
+            "DSFUETFUFVGWHWHWIXHWHVFU", // 2082
+            "DSFUEUFVFVHWHXHXIXHWHWFU", // 2083
+            "DSEUETEUFUGWGWGWHWGVGVFU", // 2084
+            "DSFUETFUFUGWHWHWHXHVGVET", // 2085
+            "DSFUETFUFVGWHWHWIXHWHVFT", // 2086
+            "DSFUEUFVFVHWHXHXIXHWHWFU", // 2087
+            "DSETETEUEUGWGWGWHWGVGVFU", // 2088
+            "DSFUETFUFUGWHWHWHXHVGVET", // 2089
+            "DSFUETFUFVGWHWHWIXHWGVFT", // 2090
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2091
+            "DSETETEUEUGWGWGWHWGVGVFU", // 2092
+            "DSFUETFUFUGWHWHWHWGVGVET", // 2093
+            "DSFUETFUFVGWHWHWIXHWGVFT", // 2094
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2095
+            "DSETETEUEUGWGWGWHWGVGVFU", // 2096
+            "DSFUETFUFUGWGWHWHWGVGVET", // 2097
+            "DSFUETFUFVGWHWHWIXHWGVFT", // 2098
+            "DSFUEUFVFVHWHXHXIXHWHVFU", // 2099
+            "DSFUEUFVFVHWHXHXIXHWHVFU" // 2100
+    };
+    private final static byte[] TERM_DAYS = new byte[(MAX_YEAR - MIN_YEAR + 1) * TERM_COUNT];
+
+    static {
+        for (int i = 0; i < TERM_TABLE.length; i++) {
+            String row = TERM_TABLE[i];
+            for (int j = 0; j < TERM_COUNT; j++) {
+                TERM_DAYS[i * TERM_COUNT + j] = (byte) (row.charAt(j) - 'A');
+            }
+        }
+    }
+
+    public static int getSolarTermNum(int year, String name) {
+        name = name.trim().toUpperCase();
+        return getSolarTermNum(year, SolarTermsEnum.valueOf(name));
+    }
+
+    /**
+     * @param year 年份
+     * @param solarTerm 节气
+     * @return 返回节气是相应月份的第几天
+     */
+    public static int getSolarTermNum(int year, SolarTermsEnum solarTerm) {
+        return getSolarTermNum(year, solarTerm.ordinal());
+    }
+
+    /**
+     * 查表返回节气日期
+     *
+     * @param year 年份
+     * @param ordinal 节气序号, 即 SolarTermsEnum 的 ordinal, 0从立春算起
+     * @return 返回节气是相应月份的第几天
+     */
+    public static int getSolarTermNum(int year, int ordinal) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new RuntimeException("不支持此年份：" + year + "，目前只支持1901年到2100年的时间范围");
+        }
+        if (ordinal < 0 || ordinal >= TERM_COUNT) {
+            throw new RuntimeException("不支持此节气序号：" + ordinal + "，节气序号应在0到23之间");
+        }
+        return TERM_DAYS[(year - MIN_YEAR) * TERM_COUNT + ordinal];
+    }
+
+    /**
+     * 使用寿星通用公式计算节气日期, 仅用于生成节气表
+     *
+     * @param year 年份
+     * @param solarTerm 节气
+     * @return 返回节气是相应月份的第几天
+     */
+    static int computeSolarTermNum(int year, SolarTermsEnum solarTerm) {
+        double centuryValue = 0;//节气的世纪值，每个节气的每个世纪值都不同
+        int ordinal = solarTerm.ordinal();
+
+        int centuryIndex = -1;
+        if (year >= 1901 && year <= 2000) {//20世纪
+            centuryIndex = 0;
+        } else if (year >= 2001 && year <= 2100) {//21世纪
+            centuryIndex = 1;
+        } else {
+            throw new RuntimeException("不支持此年份：" + year + "，目前只支持1901年到2100年的时间范围");
+        }
+        centuryValue = CENTURY_ARRAY[centuryIndex][ordinal];
+        int dateNum = 0;
+        /**
+         * 计算 num =[Y*D+C]-L这是传说中的寿星通用公式
+         * 公式解读：年数的后2位乘0.2422加C(即：centuryValue)取整数后，减闰年数
+         */
+        int y = year % 100;//步骤1:取年分的后两位数
+        if (year % 4 == 0 && year % 100 != 0 || year % 400 == 0) {//闰年
+            if (ordinal == SolarTermsEnum.XIAOHAN.ordinal() || ordinal == SolarTermsEnum.DAHAN.ordinal()
+                    || ordinal == SolarTermsEnum.LICHUN.ordinal() || ordinal == SolarTermsEnum.YUSHUI.ordinal()) {
+                //注意：凡闰年3月1日前闰年数要减一，
+                //即：L=[(Y-1)/4],因为小寒、大寒、立春、雨水这两个节气都小于3月1日,所以 y = y-1
+                y = y - 1;//步骤2
+            }
+        }
+        dateNum = (int) (y * D + centuryValue) - (y / 4);//步骤3，使用公式[Y*D+C]-L计算
+        dateNum += specialYearOffset(year, solarTerm);//步骤4，加上特殊的年分的节气偏移量
+        return dateNum;
+    }
+
+    /**
+     * 特例,特殊的年分的节气偏移量,由于公式并不完善，所以算出的个别节气的第几天数并不准确，在此返回其偏移量
+     *
+     * @param year 年份
+     * @param term 节气名称
+     * @return 返回其偏移量
+     */
+    public static int specialYearOffset(int year, SolarTermsEnum term) {
+        int offset = 0;
+        offset += getOffset(DECREASE_OFFSET_MAP, year, term, -1);
+        offset += getOffset(INCREASE_OFFSET_MAP, year, term, 1);
+
+        return offset;
+    }
+
+    public static int getOffset(Map<SolarTermsEnum, Integer[]> map, int year, SolarTermsEnum term, int offset) {
+        int off = 0;
+        Integer[] years = map.get(term);
+        if (null != years) {
+            for (int i : years) {
+                if (i == year) {
+                    off = offset;
+                    break;
+                }
+            }
+        }
+        return off;
+    }
+
+    /**
+     * 根据公式生成节气表, 输出内容即 TERM_TABLE
+     *
+     * @return 每年一行的节气表
+     */
+    static String[] generateTable() {
+        SolarTermsEnum[] terms = SolarTermsEnum.values();
+        String[] table = new String[MAX_YEAR - MIN_YEAR + 1];
+        for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+            StringBuilder sb = new StringBuilder(TERM_COUNT);
+            for (SolarTermsEnum term : terms) {
+                sb.append((char) ('A' + computeSolarTermNum(year, term)));
+            }
+            table[year - MIN_YEAR] = sb.toString();
+        }
+        return table;
+    }
+
+    public static String solarTermToString(int year) {
+        StringBuffer sb = new StringBuffer();
+        sb.append("---").append(year);
+        if (year % 4 == 0 && year % 100 != 0 || year % 400 == 0) {//闰年
+            sb.append(" 闰年");
+        } else {
+            sb.append(" 平年");
+        }
+
+        sb.append("\n")
+                .append("立春：2月").append(getSolarTermNum(year, SolarTermsEnum.LICHUN.name()))
+                .append("日,雨水：2月").append(getSolarTermNum(year, SolarTermsEnum.YUSHUI.name()))
+                .append("日,惊蛰:3月").append(getSolarTermNum(year, SolarTermsEnum.JINGZHE.name()))
+                .append("日,春分:3月").append(getSolarTermNum(year, SolarTermsEnum.CHUNFEN.name()))
+                .append("日,清明:4月").append(getSolarTermNum(year, SolarTermsEnum.QINGMING.name()))
+                .append("日,谷雨:4月").append(getSolarTermNum(year, SolarTermsEnum.GUYU.name()))
+                .append("日,立夏:5月").append(getSolarTermNum(year, SolarTermsEnum.LIXIA.name()))
+                .append("日,小满:5月").append(getSolarTermNum(year, SolarTermsEnum.XIAOMAN.name()))
+                .append("日,芒种:6月").append(getSolarTermNum(year, SolarTermsEnum.MANGZHONG.name()))
+                .append("日,夏至:6月").append(getSolarTermNum(year, SolarTermsEnum.XIAZHI.name()))
+                .append("日,小暑:7月").append(getSolarTermNum(year, SolarTermsEnum.XIAOSHU.name()))
+                .append("日,大暑:7月").append(getSolarTermNum(year, SolarTermsEnum.DASHU.name()))
+                .append("日,\n立秋:8月").append(getSolarTermNum(year, SolarTermsEnum.LIQIU.name()))
+                .append("日,处暑:8月").append(getSolarTermNum(year, SolarTermsEnum.CHUSHU.name()))
+                .append("日,白露:9月").append(getSolarTermNum(year, SolarTermsEnum.BAILU.name()))
+                .append("日,秋分:9月").append(getSolarTermNum(year, SolarTermsEnum.QIUFEN.name()))
+                .append("日,寒露:10月").append(getSolarTermNum(year, SolarTermsEnum.HANLU.name()))
+                .append("日,霜降:10月").append(getSolarTermNum(year, SolarTermsEnum.SHUANGJIANG.name()))
+                .append("日,立冬:11月").append(getSolarTermNum(year, SolarTermsEnum.LIDONG.name()))
+                .append("日,小雪:11月").append(getSolarTermNum(year, SolarTermsEnum.XIAOXUE.name()))
+                .append("日,大雪:12月").append(getSolarTermNum(year, SolarTermsEnum.DAXUE.name()))
+                .append("日,冬至:12月").append(getSolarTermNum(year, SolarTermsEnum.DONGZHI.name()))
+                .append("日,小寒:1月").append(getSolarTermNum(year, SolarTermsEnum.XIAOHAN.name()))
+                .append("日,大寒:1月").append(getSolarTermNum(year, SolarTermsEnum.DAHAN.name()));
+
+        return sb.toString();
+    }
+
+    public static void main(String[] args) {
+        if (args.length > 0 && "table".equals(args[0])) {
+            String[] table = generateTable();
+            for (int i = 0; i < table.length; i++) {
+                System.out.println("            \"" + table[i] + "\"" + (i < table.length - 1 ? "," : "") + " // " + (MIN_YEAR + i));
+            }
+            return;
+        }
+        for (int year = 1901; year < 2050; year++) {
+            System.out.println(solarTermToString(year));
+        }
+    }
+}
+
@@ -0,0 +1,63 @@
+package com.limit.datepicker.datepicker.utils;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+public class CalendarDateUtilsTest {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    @Test
+    public void getJulianDay_knownValues() throws Exception {
+        assertEquals(2451545.0, CalendarDateUtils.getJulianDay(utc(2000, Calendar.JANUARY, 1, 12), UTC), 0);
+        assertEquals(2415020.5, CalendarDateUtils.getJulianDay(utc(1900, Calendar.JANUARY, 1, 0), UTC), 0);
+        assertEquals(2488433.5, CalendarDateUtils.getJulianDay(utc(2100, Calendar.DECEMBER, 31, 0), UTC), 0);
+        assertEquals(2440587.5, CalendarDateUtils.getJulianDayOfEpochDay(0), 0);
+        assertEquals(10957, CalendarDateUtils.getEpochDay(2451545.0));
+        assertEquals(-1, CalendarDateUtils.getEpochDay(2440587.4));
+    }
+
+    @Test
+    public void getJulianDay_usesWallTime() throws Exception {
+        TimeZone shanghai = TimeZone.getTimeZone("Asia/Shanghai");
+        // 2000-01-01 12:00 in Shanghai is 04:00 UTC
+        assertEquals(2451545.0, CalendarDateUtils.getJulianDay(utc(2000, Calendar.JANUARY, 1, 4), shanghai), 0);
+        assertEquals(utc(2000, Calendar.JANUARY, 1, 4), CalendarDateUtils.getMills(2451545.0, shanghai));
+    }
+
+    /**
+     * Every day from 1900 to 2100 converts to a julian day and back to the same millisecond.
+     */
+    @Test
+    public void getMills_roundTrip() throws Exception {
+        long[] millsOfDay = {0, 6 * 3600000L + 30 * 60000L + 15250L, 12 * 3600000L, 86399999L};
+        TimeZone[] timeZones = {UTC, TimeZone.getTimeZone("Asia/Shanghai"), TimeZone.getTimeZone("America/New_York")};
+        long first = utc(1900, Calendar.JANUARY, 1, 0);
+        long end = utc(2101, Calendar.JANUARY, 1, 0);
+        for (TimeZone timeZone : timeZones) {
+            for (long day = first; day < end; day += 86400000L) {
+                for (long mills : millsOfDay) {
+                    long time = day + mills - timeZone.getRawOffset();
+                    if (timeZone.getOffset(time) != timeZone.getRawOffset()) {
+                        // wall times around daylight saving transitions are not unique
+                        time = day + 12 * 3600000L - timeZone.getRawOffset();
+                    }
+                    double julianDay = CalendarDateUtils.getJulianDay(time, timeZone);
+                    assertEquals(timeZone.getID() + " " + time, time, CalendarDateUtils.getMills(julianDay, timeZone));
+                }
+            }
+        }
+    }
+
+    private static long utc(int year, int month, int day, int hour) {
+        Calendar calendar = new GregorianCalendar(UTC);
+        calendar.clear();
+        calendar.set(year, month, day, hour, 0);
+        return calendar.getTimeInMillis();
+    }
+}
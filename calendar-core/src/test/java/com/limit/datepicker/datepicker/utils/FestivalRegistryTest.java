@@ -0,0 +1,70 @@
+package com.limit.datepicker.datepicker.utils;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FestivalRegistryTest {
+    private final FestivalRegistry.Snapshot mDefaultSnapshot = FestivalRegistry.getSnapshot();
+
+    @After
+    public void restoreSnapshot() {
+        FestivalRegistry.setSnapshot(mDefaultSnapshot);
+    }
+
+    @Test
+    public void parse_indexesAllSections() throws Exception {
+        FestivalRegistry.Snapshot snapshot = FestivalRegistry.parse(new StringReader(
+                "# 2018\n"
+                + "[solar]\n"
+                + "0101*元旦\n"
+                + "0211$\n"
+                + "[lunar]\n"
+                + "0101*春节\n"
+                + "[week]\n"
+                + "0520 母亲节\n"));
+        FestivalRegistry.Festival newYear = snapshot.getSolarFestival(1, 1);
+        assertEquals("元旦", newYear.getName());
+        assertTrue(newYear.isNamed());
+        assertEquals(Lunar.WORK_STATE_REST_DAY, newYear.getWorkState());
+
+        FestivalRegistry.Festival workDay = snapshot.getSolarFestival(2, 11);
+        assertFalse(workDay.isNamed());
+        assertEquals(Lunar.WORK_STATE_WORK_DAY, workDay.getWorkState());
+
+        assertEquals("春节", snapshot.getLunarFestival(1, 1).getName());
+        assertEquals("母亲节", snapshot.getWeekFestival(5, 2, 0).getName());
+        assertNull(snapshot.getSolarFestival(10, 1));
+    }
+
+    @Test
+    public void parse_rejectsMalformedLine() throws Exception {
+        try {
+            FestivalRegistry.parse(new StringReader("[solar]\n1301*\n"));
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        assertSame(mDefaultSnapshot, FestivalRegistry.getSnapshot());
+    }
+
+    @Test
+    public void load_swapsSnapshotSeenByLunar() throws Exception {
+        Lunar lunar = new Lunar(new GregorianCalendar(2018, Calendar.FEBRUARY, 11).getTimeInMillis());
+        assertEquals(Lunar.WORK_STATE_WORK_DEFAULT, lunar.getWorkState());
+
+        FestivalRegistry.load(new ByteArrayInputStream("[solar]\n0211$\n".getBytes("UTF-8")));
+        assertEquals(Lunar.WORK_STATE_WORK_DAY, lunar.getWorkState());
+        assertFalse(lunar.isSFestival());
+    }
+}
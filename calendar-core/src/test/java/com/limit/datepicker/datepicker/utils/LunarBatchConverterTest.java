@@ -0,0 +1,56 @@
+package com.limit.datepicker.datepicker.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class LunarBatchConverterTest {
+
+    private static final long FIRST_DAY = LunarDate.BASE_EPOCH_DAY;
+    // 农历2101年正月初一
+    private static final long END_DAY = LunarDate.getYearStartEpochDay(LunarDate.MAX_YEAR + 1);
+
+    @Test
+    public void fromEpochDays_matchesSequential() throws Exception {
+        int count = (int) (END_DAY - FIRST_DAY);
+        int[] expected = new int[count];
+        LunarDate.fromEpochDays(FIRST_DAY, expected, 0, count);
+        int[] dates = new int[count];
+        LunarBatchConverter.fromEpochDays(FIRST_DAY, dates, 0, count);
+        assertArrayEquals(expected, dates);
+    }
+
+    @Test
+    public void fromEpochDays_partialYears() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            // starting and ending inside lunar years, with an offset into the array
+            long start = LunarDate.toEpochDay(1950, 7, false, 15);
+            int count = (int) (LunarDate.toEpochDay(1987, 6, true, 3) - start);
+            int[] dates = new int[count + 3];
+            LunarBatchConverter.fromEpochDays(pool, start, dates, 2, count);
+            assertEquals(0, dates[1]);
+            assertEquals(0, dates[count + 2]);
+            for (int i = 0; i < count; i++) {
+                assertEquals(LunarDate.fromEpochDay(start + i), dates[i + 2]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void getYearStartEpochDay_matchesToEpochDay() throws Exception {
+        for (int year = LunarDate.MIN_YEAR; year <= LunarDate.MAX_YEAR; year++) {
+            assertEquals(LunarDate.toEpochDay(year, 1, false, 1), LunarDate.getYearStartEpochDay(year));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromEpochDays_afterRange() throws Exception {
+        LunarBatchConverter.fromEpochDays(END_DAY - 10, new int[11], 0, 11);
+    }
+}
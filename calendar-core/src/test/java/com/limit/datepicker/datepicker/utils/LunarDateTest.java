@@ -0,0 +1,95 @@
+package com.limit.datepicker.datepicker.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LunarDateTest {
+
+    private static final long FIRST_DAY = LunarDate.BASE_EPOCH_DAY;
+    // 农历2101年正月初一
+    private static final long END_DAY = LunarDate.toEpochDay(2100, 12, false, 1)
+            + Lunar.getLunarMonthDays(2100, 12);
+
+    @Test
+    public void fromEpochDay_roundTrip() throws Exception {
+        int previous = 0;
+        for (long epochDay = FIRST_DAY; epochDay < END_DAY; epochDay++) {
+            int date = LunarDate.fromEpochDay(epochDay);
+            assertEquals(epochDay, LunarDate.toEpochDay(date));
+            // the packed values are ordered like the dates they encode
+            assertTrue(date > previous);
+            previous = date;
+        }
+    }
+
+    @Test
+    public void pack_keepsFields() throws Exception {
+        int date = LunarDate.pack(2017, 6, true, 30);
+        assertEquals(2017, LunarDate.getYear(date));
+        assertEquals(6, LunarDate.getMonth(date));
+        assertTrue(LunarDate.isLeapMonth(date));
+        assertEquals(30, LunarDate.getDay(date));
+        // 2017 has a leap sixth month
+        assertEquals(7, LunarDate.getMonthIndexWithLeap(date));
+        assertEquals(Lunar.getLunarLeapDays(2017), LunarDate.getMonthDays(date));
+        assertFalse(LunarDate.isLeapMonth(LunarDate.pack(2017, 6, false, 30)));
+        assertEquals(LunarDate.valueOf(date), LunarDate.ofEpochDay(LunarDate.toEpochDay(date)));
+    }
+
+    @Test
+    public void fromEpochDays_matchesFromEpochDay() throws Exception {
+        int count = (int) (END_DAY - FIRST_DAY);
+        int[] dates = new int[count + 2];
+        LunarDate.fromEpochDays(FIRST_DAY, dates, 1, count);
+        assertEquals(0, dates[0]);
+        assertEquals(0, dates[count + 1]);
+        for (int i = 0; i < count; i++) {
+            assertEquals(LunarDate.fromEpochDay(FIRST_DAY + i), dates[i + 1]);
+        }
+        // starting mid-month, across the leap sixth month of 2017
+        long start = LunarDate.toEpochDay(2017, 5, false, 17);
+        dates = new int[100];
+        LunarDate.fromEpochDays(start, dates, 0, dates.length);
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(LunarDate.fromEpochDay(start + i), dates[i]);
+        }
+    }
+
+    @Test
+    public void forEachEpochDay_matchesFromEpochDay() throws Exception {
+        final long start = LunarDate.toEpochDay(2016, 12, false, 20);
+        final int[] visited = new int[1];
+        LunarDate.forEachEpochDay(start, 400, new LunarDate.Callback() {
+            @Override
+            public void onLunarDate(long epochDay, int packed) {
+                assertEquals(start + visited[0], epochDay);
+                assertEquals(LunarDate.fromEpochDay(epochDay), packed);
+                visited[0]++;
+            }
+        });
+        assertEquals(400, visited[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromEpochDays_afterRange() throws Exception {
+        LunarDate.fromEpochDays(END_DAY - 10, new int[11], 0, 11);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void fromEpochDays_outOfArray() throws Exception {
+        LunarDate.fromEpochDays(FIRST_DAY, new int[10], 5, 6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromEpochDay_beforeRange() throws Exception {
+        LunarDate.fromEpochDay(FIRST_DAY - 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromEpochDay_afterRange() throws Exception {
+        LunarDate.fromEpochDay(END_DAY);
+    }
+}
@@ -0,0 +1,335 @@
+package com.limit.datepicker.datepicker.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LunarTest {
+
+    /**
+     * Compares the indexed conversion against the original year-by-year scan
+     * for every solar day from 1901/1/1 to 2100/12/31 (the solar terms used by
+     * the cyclical data are only defined from 1901 on).
+     */
+    @Test
+    public void init_matchesYearScan() throws Exception {
+        Calendar day = new GregorianCalendar(1901, Calendar.JANUARY, 1);
+        Calendar end = new GregorianCalendar(2100, Calendar.DECEMBER, 31);
+        // days from 1900/1/31 to 1901/1/1, counted by calendar day so that
+        // daylight saving shifts do not move local midnight onto the day before
+        long offset = 335;
+        while (!day.after(end)) {
+            long timeInMillis = day.getTimeInMillis();
+            int[] expected = scan(offset++);
+            Lunar lunar = new Lunar(timeInMillis);
+            String message = day.getTime().toString();
+            assertEquals(message, expected[0], lunar.getLunarYear());
+            assertEquals(message, expected[1], lunar.getLunarMonth());
+            assertEquals(message, expected[2], lunar.getLunarDay());
+            assertEquals(message, expected[3] == 1, lunar.isLeap());
+            assertEquals(message, Lunar.getLunarLeapMonth(expected[0]) > 0, lunar.isLeapYear());
+            int maxDay = lunar.isLeap() ? Lunar.getLunarLeapDays(lunar.getLunarYear())
+                    : Lunar.getLunarMonthDays(lunar.getLunarYear(), lunar.getLunarMonth());
+            assertEquals(message, maxDay, lunar.getMaxDayInMonth());
+            day.add(Calendar.DAY_OF_MONTH, 1);
+        }
+    }
+
+    /**
+     * Compares the table-driven lunar-to-solar conversion against the original
+     * month walk for every lunar day from 1970 to 2100.
+     */
+    @Test
+    public void getTimeInMillsWithLunar_matchesMonthWalk() throws Exception {
+        for (int year = 1970; year <= 2100; year++) {
+            int leapMonth = Lunar.getLunarLeapMonth(year);
+            for (int month = 1; month <= 12; month++) {
+                for (int leap = 0; leap <= (month == leapMonth ? 1 : 0); leap++) {
+                    int days = leap == 1 ? Lunar.getLunarLeapDays(year) : Lunar.getLunarMonthDays(year, month);
+                    for (int day = 1; day <= days; day++) {
+                        assertEquals(year + "/" + month + "/" + day,
+                                walk(year, month, leap == 1, day),
+                                Lunar.getTimeInMillsWithLunar(year, month, leap == 1, day));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Every lunar day from 1901 up to solar 2100/12/31 converts back to itself.
+     */
+    @Test
+    public void getTimeInMillsWithLunar_roundTrip() throws Exception {
+        long end = new GregorianCalendar(2101, Calendar.JANUARY, 1).getTimeInMillis();
+        for (int year = 1901; year <= 2100; year++) {
+            int leapMonth = Lunar.getLunarLeapMonth(year);
+            for (int month = 1; month <= 12; month++) {
+                for (int leap = 0; leap <= (month == leapMonth ? 1 : 0); leap++) {
+                    int days = leap == 1 ? Lunar.getLunarLeapDays(year) : Lunar.getLunarMonthDays(year, month);
+                    for (int day = 1; day <= days; day++) {
+                        long timeInMillis = Lunar.getTimeInMillsWithLunar(year, month, leap == 1, day);
+                        if (timeInMillis >= end) {
+                            return;
+                        }
+                        Lunar lunar = new Lunar(timeInMillis);
+                        String message = year + "/" + month + "/" + day;
+                        assertEquals(message, year, lunar.getLunarYear());
+                        assertEquals(message, month, lunar.getLunarMonth());
+                        assertEquals(message, leap == 1, lunar.isLeap());
+                        assertEquals(message, day, lunar.getLunarDay());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void festival_solarAndLunar() throws Exception {
+        Lunar nationalDay = new Lunar(new GregorianCalendar(2017, Calendar.OCTOBER, 1).getTimeInMillis());
+        assertTrue(nationalDay.isSFestival());
+        assertEquals("国庆节", nationalDay.getSFestivalName());
+        assertEquals(Lunar.WORK_STATE_REST_DAY, nationalDay.getWorkState());
+
+        Lunar springFestival = new Lunar(new GregorianCalendar(2018, Calendar.FEBRUARY, 16).getTimeInMillis());
+        assertTrue(springFestival.isLFestival());
+        assertEquals("春节", springFestival.getLFestivalName());
+        assertEquals(Lunar.WORK_STATE_REST_DAY, springFestival.getWorkState());
+
+        // a holiday marker without a name is a rest day but not a festival
+        Lunar holiday = new Lunar(new GregorianCalendar(2017, Calendar.OCTOBER, 2).getTimeInMillis());
+        assertFalse(holiday.isFestival());
+        assertEquals(Lunar.WORK_STATE_REST_DAY, holiday.getWorkState());
+    }
+
+    @Test
+    public void festival_weekOfMonth() throws Exception {
+        // second Sunday of May
+        Lunar mothersDay = new Lunar(new GregorianCalendar(2017, Calendar.MAY, 7).getTimeInMillis());
+        assertTrue(mothersDay.isSFestival());
+        assertEquals("母亲节", mothersDay.getSFestivalName());
+        assertEquals(Lunar.WORK_STATE_WORK_DEFAULT, mothersDay.getWorkState());
+    }
+
+    @Test
+    public void lunarStrings_areShared() throws Exception {
+        // 2017 has a leap sixth month
+        String[] months = Lunar.getLunarMonthStrings(2017);
+        assertEquals(13, months.length);
+        assertEquals("六月", months[5]);
+        assertEquals("闰六月", months[6]);
+        assertEquals("腊月", months[12]);
+        assertEquals(12, Lunar.getLunarMonthStrings(2018).length);
+        assertTrue(months == Lunar.getLunarMonthStrings(2017));
+        assertEquals("闰六月", Lunar.getLunarMonthString(6, true));
+
+        String[] days = Lunar.getLunarDayStrings(30);
+        assertEquals("初一", days[0]);
+        assertEquals("初十", days[9]);
+        assertEquals("二十", days[19]);
+        assertEquals("廿一", days[20]);
+        assertEquals("三十", days[29]);
+        assertEquals(29, Lunar.getLunarDayStrings(29).length);
+        assertTrue(days[20] == Lunar.getLunarDayString(21));
+    }
+
+    /**
+     * Compares the arithmetic UTC conversion against a UTC GregorianCalendar,
+     * including out of range months and days that the lenient calendar rolls over.
+     */
+    @Test
+    public void UTC_matchesCalendar() throws Exception {
+        Calendar utc = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        int[][] values = {
+                {1900, 0, 1, 0, 0, 0}, {1969, 11, 31, 23, 59, 59}, {1970, 0, 1, 0, 0, 0},
+                {2000, 1, 29, 12, 30, 0}, {2017, 12, 1, 0, 0, 0}, {2017, -1, 1, 0, 0, 0},
+                {2016, 1, 30, 0, 0, 0}, {2100, 11, 31, 8, 0, 0}, {2017, 5, 0, 0, 0, 0}
+        };
+        for (int[] v : values) {
+            utc.clear();
+            utc.set(v[0], v[1], v[2], v[3], v[4], v[5]);
+            assertEquals(Arrays.toString(v), utc.getTimeInMillis(), Lunar.UTC(v[0], v[1], v[2], v[3], v[4], v[5]));
+            assertEquals(utc.get(Calendar.DAY_OF_MONTH), Lunar.getUTCDay(utc.getTime()));
+        }
+    }
+
+    /**
+     * Compares the table based solar term search against a scan over the
+     * GregorianCalendar built term dates, at midnight and at noon of every day.
+     */
+    @Test
+    public void nearSolarTerm_matchesListScan() throws Exception {
+        for (int year = 1902; year <= 2099; year++) {
+            List<Date> jieQi = jieQi(year);
+            assertEquals(jieQi, Lunar.AllJieQi(year));
+            Calendar calendar = new GregorianCalendar(year, 0, 1);
+            while (calendar.get(Calendar.YEAR) == year) {
+                for (int hour = 0; hour <= 12; hour += 12) {
+                    calendar.set(Calendar.HOUR_OF_DAY, hour);
+                    Date date = calendar.getTime();
+                    int[] expected = nearSolarTerm(jieQi, date);
+                    assertArrayEquals(date.toString(), expected, Lunar.getNearSolarTerm(year, date));
+                    assertEquals(Lunar.DateDays(date, jieQi.get(expected[0])), Lunar.getBeforeSolarTerm(year, date));
+                    assertEquals(Lunar.DateDays(date, jieQi.get(expected[1])), Lunar.getAfterSolarTerm(year, date));
+                }
+                calendar.set(Calendar.HOUR_OF_DAY, 0);
+                calendar.add(Calendar.DAY_OF_MONTH, 1);
+            }
+        }
+    }
+
+    /**
+     * Dates before the first term of the year before, down to the start of the
+     * term table, fall on the first term like the original scan did.
+     */
+    @Test
+    public void nearSolarTerm_beforeFirstTerm() throws Exception {
+        List<Date> jieQi = jieQi(1902);
+        Calendar calendar = new GregorianCalendar(1901, Calendar.JANUARY, 1);
+        // 1901-01-06 小寒 is the first entry of the term table
+        for (int day = 1; day <= 6; day++) {
+            calendar.set(Calendar.DAY_OF_MONTH, day);
+            Date date = calendar.getTime();
+            assertArrayEquals(date.toString(), nearSolarTerm(jieQi, date), Lunar.getNearSolarTerm(1902, date));
+        }
+        assertArrayEquals(new int[]{-2, 0}, Lunar.getNearSolarTerm(1902, new GregorianCalendar(1901, Calendar.JANUARY, 1).getTime()));
+        assertArrayEquals(new int[]{-2, 0}, Lunar.getNearSolarTerm(1950, new GregorianCalendar(1920, Calendar.JUNE, 15).getTime()));
+        assertArrayEquals(new int[]{-2, 0}, Lunar.getNearSolarTerm(1950, new GregorianCalendar(1920, Calendar.JULY, 15).getTime()));
+    }
+
+    @Test
+    public void floorAndCeilingSolarTerm() throws Exception {
+        // 2017-12-22 冬至
+        int winterSolstice = Lunar.getSolarTermIndex(2017, 23);
+        long epochDay = Lunar.getSolarTermEpochDay(winterSolstice);
+        assertEquals(17522, epochDay);
+        assertEquals(winterSolstice, Lunar.floorSolarTerm(epochDay));
+        assertEquals(winterSolstice, Lunar.ceilingSolarTerm(epochDay));
+        assertEquals(winterSolstice, Lunar.floorSolarTerm(epochDay + 1));
+        assertEquals(winterSolstice + 1, Lunar.ceilingSolarTerm(epochDay + 1));
+        assertEquals(winterSolstice - 1, Lunar.floorSolarTerm(epochDay - 1));
+        assertEquals(winterSolstice, Lunar.ceilingSolarTerm(epochDay - 1));
+
+        assertEquals(-1, Lunar.floorSolarTerm(Lunar.getSolarTermEpochDay(0) - 1));
+        int last = Lunar.getSolarTermIndex(2100, 23);
+        assertEquals(last + 1, Lunar.ceilingSolarTerm(Lunar.getSolarTermEpochDay(last) + 1));
+    }
+
+    /**
+     * The original term list of Lunar#AllJieQi, kept as the reference implementation.
+     */
+    private static List<Date> jieQi(int year) {
+        List<Date> jieQi = new ArrayList<Date>();
+        for (int y = year - 1; y <= year + 1; y++) {
+            for (int i = 0; i < 24; i++) {
+                jieQi.add(new GregorianCalendar(y, i / 2, _24SolarTerms.getSolarTermNum(y, (i + 22) % 24)).getTime());
+            }
+        }
+        return jieQi;
+    }
+
+    /**
+     * The original scan of Lunar#getNearSolarTerm, kept as the reference implementation.
+     */
+    private static int[] nearSolarTerm(List<Date> jieQi, Date date) {
+        int[] returnValue = new int[2];
+        for (int i = 0; i < jieQi.size(); i++) {
+            if (date.getTime() > jieQi.get(i).getTime()) {
+                continue;
+            }
+            if (i % 2 == 0) {
+                returnValue[0] = i - 2;
+                returnValue[1] = i;
+            } else {
+                returnValue[0] = i - 1;
+                returnValue[1] = i + 1;
+            }
+            break;
+        }
+        return returnValue;
+    }
+
+    /**
+     * The original conversion loop of Lunar#init, kept as the reference implementation.
+     *
+     * @return {lunarYear, lunarMonth, lunarDay, isLeap ? 1 : 0}
+     */
+    private static int[] scan(long offset) {
+        int lunarYear = 1900;
+        int daysInLunarYear = yearDays(lunarYear);
+        while (lunarYear < 2100 && offset >= daysInLunarYear) {
+            offset -= daysInLunarYear;
+            daysInLunarYear = yearDays(++lunarYear);
+        }
+        int lunarMonth = 1;
+        int leapMonth = Lunar.getLunarLeapMonth(lunarYear);
+        boolean leapDec = false;
+        boolean isLeap = false;
+        int daysInLunarMonth;
+        while (lunarMonth < 13 && offset > 0) {
+            if (isLeap && leapDec) {
+                daysInLunarMonth = Lunar.getLunarLeapDays(lunarYear);
+                leapDec = false;
+            } else {
+                daysInLunarMonth = Lunar.getLunarMonthDays(lunarYear, lunarMonth);
+            }
+            if (offset < daysInLunarMonth) {
+                break;
+            }
+            offset -= daysInLunarMonth;
+            if (leapMonth == lunarMonth && !isLeap) {
+                leapDec = true;
+                isLeap = true;
+            } else {
+                lunarMonth++;
+            }
+        }
+        return new int[]{lunarYear, lunarMonth, (int) offset + 1, lunarMonth == leapMonth && isLeap ? 1 : 0};
+    }
+
+    /**
+     * The original month walk of Lunar#getTimeInMillsWithLunar, kept as the reference implementation.
+     */
+    private static long walk(int lunarYear, int lunarMonth, boolean isLeapMonth, int lunarDay) {
+        Calendar baseDate = new GregorianCalendar(1969, 1, 17);
+        int offset = 0;
+        int tmp = lunarYear;
+        while (tmp > 1969) {
+            offset += yearDays(--tmp);
+        }
+        tmp = lunarMonth;
+        int leapMonth = Lunar.getLunarLeapMonth(lunarYear);
+        if (isLeapMonth && leapMonth == lunarMonth) {
+            offset += Lunar.getLunarMonthDays(lunarYear, lunarMonth);
+        }
+        while (tmp > 1) {
+            --tmp;
+            if (leapMonth > 0 && tmp == leapMonth) {
+                offset += Lunar.getLunarLeapDays(lunarYear);
+            }
+            offset += Lunar.getLunarMonthDays(lunarYear, tmp);
+        }
+        offset += lunarDay - 1;
+        baseDate.add(Calendar.DAY_OF_YEAR, offset);
+        return baseDate.getTimeInMillis();
+    }
+
+    private static int yearDays(int lunarYear) {
+        int days = Lunar.getLunarLeapDays(lunarYear);
+        for (int month = 1; month <= 12; month++) {
+            days += Lunar.getLunarMonthDays(lunarYear, month);
+        }
+        return days;
+    }
+}
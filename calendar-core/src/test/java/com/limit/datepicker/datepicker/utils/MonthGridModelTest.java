@@ -0,0 +1,72 @@
+package com.limit.datepicker.datepicker.utils;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MonthGridModelTest {
+
+    @Test
+    public void setMonth_matchesLunar() throws Exception {
+        MonthGridModel model = new MonthGridModel(Calendar.MONDAY);
+        for (int year = MonthGridModel.MIN_YEAR; year <= MonthGridModel.MAX_YEAR; year++) {
+            for (int month = 1; month <= 12; month++) {
+                MonthGridModel.Cell[] cells = model.setMonth(year, month);
+                for (MonthGridModel.Cell cell : cells) {
+                    if (cell.getSolarYear() < MonthGridModel.MIN_YEAR || cell.getSolarYear() > MonthGridModel.MAX_YEAR) {
+                        // Lunar itself only covers the solar terms of 1901-2100
+                        continue;
+                    }
+                    String at = year + "-" + month + " cell " + cell.getEpochDay();
+                    Lunar lunar = new Lunar(cell.getTimeInMillis());
+                    assertEquals(at, lunar.getSolarYear(), cell.getSolarYear());
+                    assertEquals(at, lunar.getSolarMonth(), cell.getSolarMonth());
+                    assertEquals(at, lunar.getSolarDay(), cell.getSolarDay());
+                    assertEquals(at, lunar.getDayOfWeek() - 1, cell.getDayOfWeek());
+                    assertEquals(at, Lunar.toLunarDate(cell.getTimeInMillis()), cell.getLunarDate());
+                    assertEquals(at, lunar.getTermString(), cell.getTermString());
+                    assertEquals(at, lunar.getSFestivalName(), cell.getSFestivalName());
+                    assertEquals(at, lunar.getLFestivalName(), cell.getLFestivalName());
+                    assertEquals(at, lunar.isFestival(), cell.isFestival());
+                    assertEquals(at, lunar.getWorkState(), cell.getWorkState());
+                    assertEquals(at, lunar.getDisplayLunarString(), cell.getDisplayLunarString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void setMonth_layout() throws Exception {
+        MonthGridModel model = new MonthGridModel();
+        MonthGridModel.Cell[] cells = model.setMonth(2017, 10);
+        assertSame(cells, model.getCells());
+        MonthGridModel.Cell first = cells[0];
+        // 2017-10-01 is a Sunday, so the grid starts on it
+        assertEquals(1, first.getSolarDay());
+        assertEquals(0, first.getDayOfWeek());
+        int inMonth = 0;
+        for (int i = 0; i < MonthGridModel.CELL_COUNT; i++) {
+            assertEquals(i % MonthGridModel.COLUMNS, cells[i].getDayOfWeek());
+            assertEquals(first.getEpochDay() + i, cells[i].getEpochDay());
+            if (cells[i].isInMonth()) {
+                inMonth++;
+            }
+        }
+        assertEquals(31, inMonth);
+
+        // the cells are reused by the next month
+        assertSame(first, model.setMonth(2017, 11)[0]);
+        assertEquals(10, first.getSolarMonth());
+        assertEquals(29, first.getSolarDay());
+        assertTrue(!first.isInMonth());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMonth_outOfRange() throws Exception {
+        new MonthGridModel().setMonth(1900, 12);
+    }
+}
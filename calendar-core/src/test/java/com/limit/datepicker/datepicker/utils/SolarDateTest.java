@@ -0,0 +1,52 @@
+package com.limit.datepicker.datepicker.utils;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SolarDateTest {
+
+    @Test
+    public void epochDay_matchesCalendar() throws Exception {
+        Calendar day = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        day.clear();
+        day.set(1900, Calendar.JANUARY, 1);
+        long epochDay = SolarDate.toEpochDay(1900, 1, 1);
+        assertEquals(-25567, epochDay);
+        int previous = 0;
+        while (day.get(Calendar.YEAR) <= 2100) {
+            String message = day.getTime().toString();
+            int date = SolarDate.fromEpochDay(epochDay);
+            assertEquals(message, day.get(Calendar.YEAR), SolarDate.getYear(date));
+            assertEquals(message, day.get(Calendar.MONTH) + 1, SolarDate.getMonth(date));
+            assertEquals(message, day.get(Calendar.DAY_OF_MONTH), SolarDate.getDay(date));
+            assertEquals(message, epochDay, SolarDate.toEpochDay(date));
+            assertEquals(message, day.getTimeInMillis() / 86400000, epochDay);
+            assertEquals(message, day.get(Calendar.DAY_OF_WEEK) - 1, SolarDate.getDayOfWeek(epochDay));
+            // the packed values are ordered like the dates they encode
+            assertTrue(date > previous);
+            previous = date;
+            day.add(Calendar.DAY_OF_MONTH, 1);
+            epochDay++;
+        }
+    }
+
+    @Test
+    public void toEpochDay_rollsDayOver() throws Exception {
+        assertEquals(SolarDate.toEpochDay(2017, 3, 1), SolarDate.toEpochDay(2017, 2, 29));
+        assertEquals(SolarDate.toEpochDay(2016, 12, 31), SolarDate.toEpochDay(2017, 1, 0));
+    }
+
+    @Test
+    public void floorDiv_roundsDown() throws Exception {
+        assertEquals(-1, SolarDate.floorDiv(-1, 86400000));
+        assertEquals(0, SolarDate.floorDiv(86399999, 86400000));
+        assertEquals(-1, SolarDate.floorDiv(-86400000, 86400000));
+        assertEquals(6, SolarDate.floorMod(-1, 7));
+    }
+}
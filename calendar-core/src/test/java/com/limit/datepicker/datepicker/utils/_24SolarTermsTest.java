@@ -0,0 +1,51 @@
+package com.limit.datepicker.datepicker.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class _24SolarTermsTest {
+
+    @Test
+    public void table_matchesFormula() throws Exception {
+        for (int year = 1901; year <= 2100; year++) {
+            for (_24SolarTerms.SolarTermsEnum term : _24SolarTerms.SolarTermsEnum.values()) {
+                assertEquals(year + " " + term, _24SolarTerms.computeSolarTermNum(year, term),
+                        _24SolarTerms.getSolarTermNum(year, term));
+            }
+        }
+    }
+
+    @Test
+    public void table_isUpToDate() throws Exception {
+        // regenerate with `_24SolarTerms table` when this fails
+        assertArrayEquals(_24SolarTerms.generateTable(), _24SolarTerms.TERM_TABLE);
+    }
+
+    @Test
+    public void table_keepsSpecialYearOffsets() throws Exception {
+        assertEquals(18, _24SolarTerms.getSolarTermNum(2026, _24SolarTerms.SolarTermsEnum.YUSHUI));
+        assertEquals(21, _24SolarTerms.getSolarTermNum(2008, _24SolarTerms.SolarTermsEnum.XIAOMAN));
+        assertEquals(7, _24SolarTerms.getSolarTermNum(1902, _24SolarTerms.SolarTermsEnum.MANGZHONG));
+        assertEquals(7, _24SolarTerms.getSolarTermNum(2016, _24SolarTerms.SolarTermsEnum.XIAOSHU));
+        assertEquals(21, _24SolarTerms.getSolarTermNum(2021, _24SolarTerms.SolarTermsEnum.DONGZHI));
+        assertEquals(5, _24SolarTerms.getSolarTermNum(2019, _24SolarTerms.SolarTermsEnum.XIAOHAN));
+        assertEquals(6, _24SolarTerms.getSolarTermNum(1982, _24SolarTerms.SolarTermsEnum.XIAOHAN));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void getSolarTermNum_outOfRange() throws Exception {
+        _24SolarTerms.getSolarTermNum(1900, _24SolarTerms.SolarTermsEnum.LICHUN);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void getSolarTermNum_ordinalTooLarge() throws Exception {
+        _24SolarTerms.getSolarTermNum(2000, 24);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void getSolarTermNum_negativeOrdinal() throws Exception {
+        _24SolarTerms.getSolarTermNum(2000, -1);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2006 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.limit.datepicker.datepicker.simonvt;
+
+/**
+ * The position curves {@link Scroller} follows: the fling spline and the
+ * viscous fluid curve of scroll mode. They are plain arithmetic over
+ * precomputed tables, kept free of the Android framework so they can be
+ * tested and benchmarked on a plain JVM.
+ */
+public final class ScrollerCurves {
+    public static final float START_TENSION = 0.4f; // Tension at start: (0.4 * total T, 1.0 * Distance)
+    private static final float END_TENSION = 1.0f - START_TENSION;
+    // Both curves are sampled finely enough for linear interpolation to stay
+    // well below a pixel, so no transcendental math is done per frame
+    public static final int NB_SAMPLES = 512;
+    private static final float[] SPLINE = new float[NB_SAMPLES + 1];
+    public static final int NB_VISCOUS_FLUID_SAMPLES = 512;
+    private static final float[] VISCOUS_FLUID = new float[NB_VISCOUS_FLUID_SAMPLES + 1];
+
+    private static float sViscousFluidScale;
+    private static float sViscousFluidNormalize;
+
+    static {
+        float x_min = 0.0f;
+        for (int i = 0; i <= NB_SAMPLES; i++) {
+            final float t = (float) i / NB_SAMPLES;
+            float x_max = 1.0f;
+            float x, tx, coef;
+            while (true) {
+                x = x_min + (x_max - x_min) / 2.0f;
+                coef = 3.0f * x * (1.0f - x);
+                tx = coef * ((1.0f - x) * START_TENSION + x * END_TENSION) + x * x * x;
+                if (Math.abs(tx - t) < 1E-5) break;
+                if (tx > t) x_max = x;
+                else x_min = x;
+            }
+            final float d = coef + x * x * x;
+            SPLINE[i] = d;
+        }
+        SPLINE[NB_SAMPLES] = 1.0f;
+
+        // This controls the viscous fluid effect (how much of it)
+        sViscousFluidScale = 8.0f;
+        // must be set to 1.0 (used in viscousFluid())
+        sViscousFluidNormalize = 1.0f;
+        sViscousFluidNormalize = 1.0f / viscousFluid(1.0f);
+        for (int i = 0; i <= NB_VISCOUS_FLUID_SAMPLES; i++) {
+            VISCOUS_FLUID[i] = viscousFluid((float) i / NB_VISCOUS_FLUID_SAMPLES);
+        }
+    }
+
+    private ScrollerCurves() {
+    }
+
+    /**
+     * The fling distance coefficient at the elapsed fraction <code>t</code>,
+     * interpolated from the sampled spline.
+     */
+    public static float splineCurve(float t) {
+        return interpolate(SPLINE, NB_SAMPLES, t);
+    }
+
+    /**
+     * {@link #viscousFluid(float)} interpolated from the sampled curve.
+     */
+    public static float viscousFluidCurve(float x) {
+        return interpolate(VISCOUS_FLUID, NB_VISCOUS_FLUID_SAMPLES, x);
+    }
+
+    private static float interpolate(float[] samples, int sampleCount, float x) {
+        if (x <= 0.0f) {
+            return samples[0];
+        }
+        final float position = x * sampleCount;
+        final int index = (int) position;
+        if (index >= sampleCount) {
+            return samples[sampleCount];
+        }
+        final float d_inf = samples[index];
+        return d_inf + (position - index) * (samples[index + 1] - d_inf);
+    }
+
+    /**
+     * The viscous fluid curve computed directly, from which the lookup table is sampled.
+     */
+    public static float viscousFluid(float x)
+    {
+        x *= sViscousFluidScale;
+        if (x < 1.0f) {
+            x -= (1.0f - (float) Math.exp(-x));
+        } else {
+            float start = 0.36787944117f;   // 1/e == exp(-1)
+            x = 1.0f - (float) Math.exp(1.0f - x);
+            x = start + x * (1.0f - start);
+        }
+        x *= sViscousFluidNormalize;
+        return x;
+    }
+}
@@ -0,0 +1,85 @@
+package com.limit.datepicker.datepicker.simonvt;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ScrollerCurvesTest {
+
+    private static final int STEPS = 10000;
+
+    @Test
+    public void viscousFluidCurve_matchesFormula() throws Exception {
+        for (int i = 0; i <= STEPS; i++) {
+            float x = (float) i / STEPS;
+            assertEquals("x=" + x, ScrollerCurves.viscousFluid(x), ScrollerCurves.viscousFluidCurve(x), 1e-4f);
+        }
+        assertEquals(1.0f, ScrollerCurves.viscousFluidCurve(1.0f), 1e-6f);
+    }
+
+    @Test
+    public void splineCurve_matchesLegacySpline() throws Exception {
+        float[] legacy = legacySpline();
+        assertEquals(0.0f, ScrollerCurves.splineCurve(0.0f), 1e-4f);
+        assertEquals(1.0f, ScrollerCurves.splineCurve(1.0f), 0.0f);
+        float previous = 0.0f;
+        for (int i = 0; i < STEPS; i++) {
+            float t = (float) i / STEPS;
+            float distanceCoef = ScrollerCurves.splineCurve(t);
+            assertEquals("t=" + t, legacySplineCurve(legacy, t), distanceCoef, 1e-3f);
+            assertTrue("t=" + t, distanceCoef >= previous);
+            previous = distanceCoef;
+        }
+    }
+
+    @Test
+    public void curves_moveAtMostOnePixel() throws Exception {
+        float[] legacy = legacySpline();
+        int distance = 1000;
+        for (int i = 0; i < STEPS; i++) {
+            float t = (float) i / STEPS;
+            int fling = Math.round(ScrollerCurves.splineCurve(t) * distance);
+            int legacyFling = Math.round(legacySplineCurve(legacy, t) * distance);
+            assertTrue("t=" + t, Math.abs(fling - legacyFling) <= 1);
+            int scroll = Math.round(ScrollerCurves.viscousFluidCurve(t) * distance);
+            int legacyScroll = Math.round(ScrollerCurves.viscousFluid(t) * distance);
+            assertTrue("t=" + t, Math.abs(scroll - legacyScroll) <= 1);
+        }
+    }
+
+    /**
+     * The 100 sample spline the fling path used before
+     */
+    private static float[] legacySpline() {
+        final int samples = 100;
+        float[] spline = new float[samples + 1];
+        float x_min = 0.0f;
+        for (int i = 0; i <= samples; i++) {
+            final float t = (float) i / samples;
+            float x_max = 1.0f;
+            float x, tx, coef;
+            while (true) {
+                x = x_min + (x_max - x_min) / 2.0f;
+                coef = 3.0f * x * (1.0f - x);
+                tx = coef * ((1.0f - x) * 0.4f + x * 0.6f) + x * x * x;
+                if (Math.abs(tx - t) < 1E-5) break;
+                if (tx > t) x_max = x;
+                else x_min = x;
+            }
+            spline[i] = coef + x * x * x;
+        }
+        spline[samples] = 1.0f;
+        return spline;
+    }
+
+    private static float legacySplineCurve(float[] spline, float t) {
+        final int samples = spline.length - 1;
+        final int index = (int) (samples * t);
+        final float t_inf = (float) index / samples;
+        final float t_sup = (float) (index + 1) / samples;
+        final float d_inf = spline[index];
+        final float d_sup = spline[index + 1];
+        return d_inf + (t - t_inf) / (t_sup - t_inf) * (d_sup - d_inf);
+    }
+}